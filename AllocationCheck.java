@@ -0,0 +1,101 @@
+/**
+ * AllocationCheck class for the Tower Defense game.
+ * Checks that moving enemies along the path allocates no memory once the game is warmed up. Runs a crowd of snails
+ * through update(), the batched path lookup and commit() on a headless game and measures the bytes allocated by this
+ * thread while they move.
+ * Exits with status 1 if any allocation is found. Needs the resources folder on the classpath and a JVM that supports
+ * per-thread allocation counting (com.sun.management.ThreadMXBean).
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import path.PathGraph;
+
+public class AllocationCheck {
+	private static final int ENEMIES = 1000;
+	private static final int TICKS = 300;		// Few enough that a snail never reaches the end of the path
+	
+	/**
+	 * Runs the check.
+	 * 
+	 * @param args Unused.
+	 */
+	public static void main(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+		
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+			System.out.println("This JVM can't count allocated bytes per thread");
+			System.exit(2);
+		}
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+		long threadId = Thread.currentThread().getId();
+		
+		Control control = new Control(false);
+		State state = control.getState();
+		double tickLength = control.getTickLength();
+		ParallelUpdater updater = new ParallelUpdater(state, control.getPathGraph(), 1);
+		
+		// Warm up with one crowd so the movement code is compiled, then measure a fresh crowd
+		moveEnemies(makeEnemies(state, control), updater, tickLength);
+		List<Enemy> enemies = makeEnemies(state, control);
+		
+		// Calibrate the cost of reading the counter itself
+		long overhead = threadBean.getThreadAllocatedBytes(threadId);
+		overhead = threadBean.getThreadAllocatedBytes(threadId) - overhead;
+		
+		long before = threadBean.getThreadAllocatedBytes(threadId);
+		moveEnemies(enemies, updater, tickLength);
+		long allocated = threadBean.getThreadAllocatedBytes(threadId) - before - overhead;
+		
+		long updates = (long) ENEMIES*TICKS;
+		System.out.println("Enemy updates: " + updates);
+		System.out.println("Bytes allocated: " + allocated + " (" + (double) allocated/updates + " per update)");
+		
+		if (allocated > 0) {
+			System.out.println("FAILED: moving enemies allocated memory");
+			System.exit(1);
+		}
+		System.out.println("OK: moving enemies allocated nothing");
+	}
+	
+	/**
+	 * Creates a crowd of snails at the start of the path, spread across its routes the way the game spawns them.
+	 * 
+	 * @param state The game's state.
+	 * @param control The game's control.
+	 * @return the new snails.
+	 */
+	private static List<Enemy> makeEnemies(State state, Control control) {
+		List<Enemy> enemies = new ArrayList<Enemy>(ENEMIES);
+		PathGraph graph = control.getPathGraph();
+		for (int i = 0; i < ENEMIES; i++)
+			enemies.add(new Snail(state, control, graph.getRoute(i % graph.getRouteCount())));
+		
+		return enemies;
+	}
+	
+	/**
+	 * Moves every enemy along the path for TICKS ticks, the same way the game loop does.
+	 * 
+	 * @param enemies The enemies to be moved.
+	 * @param updater Updater used to locate the enemies along the path.
+	 * @param tickLength Game time per tick.
+	 */
+	private static void moveEnemies(List<Enemy> enemies, ParallelUpdater updater, double tickLength) {
+		for (int t = 0; t < TICKS; t++) {
+			for (int i = 0; i < enemies.size(); i++)
+				enemies.get(i).update(tickLength);
+			updater.locateEnemies(enemies);
+			for (int i = 0; i < enemies.size(); i++)
+				enemies.get(i).commit();
+		}
+	}
+}
@@ -8,8 +8,6 @@
  */
 package game;
 
-import java.awt.Graphics;
-
 public class Background extends GameObject{
 
 	public Background(State state, Control control) {
@@ -22,12 +20,4 @@ public class Background extends GameObject{
 	
 	@Override
 	public void update(double elapsedTime) {}
-	
-	/**
-	 * Draws the game background.
-	 */
-	@Override
-	public void draw(Graphics g) {
-		g.drawImage(control.getImage("background.jpg"), 0, 0, null);
-	}
 }
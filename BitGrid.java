@@ -0,0 +1,153 @@
+/**
+ * BitGrid class for marking areas of the game field one pixel at a time.
+ * Holds one bit per pixel, packed 64 to a long along each row, so a whole row of a rectangle is set, cleared or
+ * checked a word at a time. Used for the path corridor and for the ground covered by towers.
+ *
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+
+package path;
+
+public class BitGrid {
+	//Fields
+	private int width;
+	private int height;
+	private int wordsPerRow;
+	private long[] bits;	// Bit x % 64 of bits[y*wordsPerRow + x/64] is pixel (x, y)
+
+	/**
+	 * Creates a grid of the given size with every bit clear.
+	 *
+	 * @param width Width of the grid, in pixels.
+	 * @param height Height of the grid, in pixels.
+	 */
+	public BitGrid(int width, int height) {
+		this.width = width;
+		this.height = height;
+		wordsPerRow = (width + 63)/64;
+		bits = new long[wordsPerRow*height];
+	}
+
+	//Accessors
+	/**
+	 * Gets the width of the grid.
+	 *
+	 * @return the width, in pixels.
+	 */
+	public int getWidth() {
+		return width;
+	}
+	/**
+	 * Gets the height of the grid.
+	 *
+	 * @return the height, in pixels.
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Checks if a pixel's bit is set. Pixels outside the grid never are.
+	 *
+	 * @param x The x value of the pixel.
+	 * @param y The y value of the pixel.
+	 * @return true if the pixel is set.
+	 */
+	public boolean get(int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			return false;
+
+		return (bits[y*wordsPerRow + (x >> 6)] & (1L << x)) != 0;
+	}
+
+	//Editing
+	/**
+	 * Sets or clears a single pixel. Pixels outside the grid are ignored.
+	 *
+	 * @param x The x value of the pixel.
+	 * @param y The y value of the pixel.
+	 * @param value true to set the pixel, false to clear it.
+	 */
+	public void set(int x, int y, boolean value) {
+		if (x < 0 || x >= width || y < 0 || y >= height)
+			return;
+
+		if (value)
+			bits[y*wordsPerRow + (x >> 6)] |= 1L << x;
+		else
+			bits[y*wordsPerRow + (x >> 6)] &= ~(1L << x);
+	}
+
+	/**
+	 * Sets or clears every pixel of a rectangle. The parts of the rectangle outside the grid are ignored.
+	 *
+	 * @param left The x value of the rectangle's left column.
+	 * @param top The y value of the rectangle's top row.
+	 * @param right The x value of the rectangle's right column, included in the rectangle.
+	 * @param bottom The y value of the rectangle's bottom row, included in the rectangle.
+	 * @param value true to set the pixels, false to clear them.
+	 */
+	public void fill(int left, int top, int right, int bottom, boolean value) {
+		left = Math.max(left, 0);
+		top = Math.max(top, 0);
+		right = Math.min(right, width - 1);
+		bottom = Math.min(bottom, height - 1);
+		if (left > right)
+			return;
+
+		for (int y = top; y <= bottom; y++) {
+			int row = y*wordsPerRow;
+			for (int w = left >> 6; w <= right >> 6; w++) {
+				long mask = wordMask(w, left, right);
+				if (value)
+					bits[row + w] |= mask;
+				else
+					bits[row + w] &= ~mask;
+			}
+		}
+	}
+
+	//Checks
+	/**
+	 * Checks if any pixel of a rectangle is set. The parts of the rectangle outside the grid are ignored.
+	 *
+	 * @param left The x value of the rectangle's left column.
+	 * @param top The y value of the rectangle's top row.
+	 * @param right The x value of the rectangle's right column, included in the rectangle.
+	 * @param bottom The y value of the rectangle's bottom row, included in the rectangle.
+	 * @return true if any pixel in the rectangle is set.
+	 */
+	public boolean intersects(int left, int top, int right, int bottom) {
+		left = Math.max(left, 0);
+		top = Math.max(top, 0);
+		right = Math.min(right, width - 1);
+		bottom = Math.min(bottom, height - 1);
+		if (left > right)
+			return false;
+
+		int firstWord = left >> 6;
+		int lastWord = right >> 6;
+		for (int y = top; y <= bottom; y++) {
+			int row = y*wordsPerRow;
+			for (int w = firstWord; w <= lastWord; w++)
+				if ((bits[row + w] & wordMask(w, left, right)) != 0)
+					return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Gets the mask of the bits in word w of a row that lie between the columns left and right, inclusive.
+	 */
+	private static long wordMask(int w, int left, int right) {
+		long mask = -1L;
+		if (w == left >> 6)
+			mask &= -1L << left;
+		if (w == right >> 6)
+			mask &= -1L >>> (63 - (right & 63));
+
+		return mask;
+	}
+}
@@ -0,0 +1,165 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PlacementMaskTest {
+	private State state;
+	private Control control;
+
+	@BeforeEach
+	void setUp() {
+		System.setProperty("java.awt.headless", "true");
+		control = new Control(false);
+		state = control.getState();
+	}
+
+	//Place and remove tests
+
+	/*
+	 * Places towers near each other so the spots they block overlap, then removes them in a random order. After every
+	 * change each spot must be valid exactly when it was valid before any tower was placed and its footprint clears
+	 * every tower still placed. A spot blocked by two towers must stay invalid when only one of them is removed.
+	 */
+	@Test
+	void validAfterPlacingAndRemoving() {
+		Random rand = new Random(41);
+		Tower first = new DumbTower(state, control);
+		PlacementMask mask = state.getPlacementMask(first.getWidth(), first.getHeight());
+		boolean[][] initial = snapshot(mask);
+
+		List<Tower> placed = new ArrayList<Tower>();
+		Tower t = first;
+		for (int attempt = 0; attempt < 2000 && placed.size() < 15; attempt++) {
+			//Try near the last tower placed most of the time, so their blocked spots overlap
+			int x = rand.nextInt(mask.getWidth());
+			int y = rand.nextInt(mask.getHeight());
+			if (!placed.isEmpty() && rand.nextInt(4) > 0) {
+				Tower last = placed.get(placed.size() - 1);
+				x = last.getX() + rand.nextInt(2*t.getWidth() + 1) - t.getWidth();
+				y = last.getY() + rand.nextInt(2*t.getHeight() + 1) - t.getHeight();
+			}
+			if (!t.placeAt(x, y))
+				continue;
+
+			placed.add(t);
+			assertMatchesRule(mask, initial, placed, "After placing tower " + placed.size());
+			t = new DumbTower(state, control);
+		}
+		assertTrue(placed.size() > 5, "Only placed " + placed.size() + " towers");
+
+		int sharedSpots = 0;
+		for (int y = 0; y < mask.getHeight(); y++)
+			for (int x = 0; x < mask.getWidth(); x++)
+				if (blockers(x, y, placed, mask) > 1)
+					sharedSpots++;
+		assertTrue(sharedSpots > 0, "No spot was blocked by more than one tower");
+
+		while (!placed.isEmpty()) {
+			Tower removed = placed.remove(rand.nextInt(placed.size()));
+			state.vacate(removed);
+			assertMatchesRule(mask, initial, placed, "After removing down to " + placed.size() + " towers");
+		}
+	}
+
+	/*
+	 * Checks that placing and removing a tower each change the mask's version, so an overlay drawn from it is redrawn
+	 */
+	@Test
+	void changesBumpVersion() {
+		Tower t = new DumbTower(state, control);
+		PlacementMask mask = state.getPlacementMask(t.getWidth(), t.getHeight());
+
+		int version = mask.getVersion();
+		placeAnywhere(t, mask);
+		assertNotEquals(version, mask.getVersion());
+
+		version = mask.getVersion();
+		state.vacate(t);
+		assertNotEquals(version, mask.getVersion());
+	}
+
+	//Occupancy tests
+
+	/*
+	 * Checks that the state reports the ground under a placed tower's footprint as occupied, and frees it on removal
+	 */
+	@Test
+	void footprintIsOccupied() {
+		Tower t = new DumbTower(state, control);
+		PlacementMask mask = state.getPlacementMask(t.getWidth(), t.getHeight());
+		placeAnywhere(t, mask);
+
+		int left = t.getFootprintLeft();
+		int top = t.getFootprintTop();
+		int right = t.getFootprintRight();
+		int bottom = t.getFootprintBottom();
+		assertTrue(state.isOccupied(left, top, right, bottom));
+		assertTrue(state.isOccupied(right, bottom, right + 10, bottom + 10));
+		assertFalse(state.isOccupied(right + 1, top, right + 10, bottom));
+		assertFalse(state.isOccupied(left, bottom + 1, right, bottom + 10));
+
+		state.vacate(t);
+		assertFalse(state.isOccupied(left, top, right, bottom));
+	}
+
+	/*
+	 * Places a tower at the first valid spot of the mask
+	 */
+	private static void placeAnywhere(Tower t, PlacementMask mask) {
+		for (int y = 0; y < mask.getHeight(); y++)
+			for (int x = 0; x < mask.getWidth(); x++)
+				if (mask.isValid(x, y) && t.placeAt(x, y))
+					return;
+
+		fail("No valid spot for a tower");
+	}
+
+	/*
+	 * Copies every bit of a mask
+	 */
+	private static boolean[][] snapshot(PlacementMask mask) {
+		boolean[][] bits = new boolean[mask.getHeight()][mask.getWidth()];
+		for (int y = 0; y < mask.getHeight(); y++)
+			for (int x = 0; x < mask.getWidth(); x++)
+				bits[y][x] = mask.isValid(x, y);
+
+		return bits;
+	}
+
+	/*
+	 * Checks every spot of a mask against the spots valid with no towers and the footprints of the placed towers
+	 */
+	private static void assertMatchesRule(PlacementMask mask, boolean[][] initial, List<Tower> placed, String when) {
+		for (int y = 0; y < mask.getHeight(); y++)
+			for (int x = 0; x < mask.getWidth(); x++) {
+				boolean expected = initial[y][x] && blockers(x, y, placed, mask) == 0;
+				if (mask.isValid(x, y) != expected)
+					fail(when + ": spot (" + x + ", " + y + ") should be " + (expected ? "valid" : "invalid"));
+			}
+	}
+
+	/*
+	 * Counts the placed towers whose footprint the footprint of a tower centered at (x, y) would overlap
+	 */
+	private static int blockers(int x, int y, List<Tower> placed, PlacementMask mask) {
+		int left = x - mask.getTowerWidth()/4;
+		int right = x + mask.getTowerWidth()/4;
+		int top = y - (mask.getTowerHeight()/2 - 5);
+		int bottom = y + (mask.getTowerHeight()/2 - 5);
+
+		int count = 0;
+		for (Tower t : placed)
+			if (left <= t.getFootprintRight() && t.getFootprintLeft() <= right
+					&& top <= t.getFootprintBottom() && t.getFootprintTop() <= bottom)
+				count++;
+
+		return count;
+	}
+}
@@ -0,0 +1,148 @@
+package path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class DynamicPathTest {
+	private static final int EDITS = 5000;		//Random edits checked per seed
+	private static final int LOOKUPS = 50;		//Locations compared after each edit
+
+	//Edit tests
+
+	/*
+	 * Makes random inserts, removes and moves on a DynamicPath, and after every edit compares it with a Path built from
+	 * the same points. The points and segment lengths must match exactly, and distances and locations within rounding,
+	 * since the tree adds lengths in a different order.
+	 */
+	@Test
+	void editsMatchRebuiltPath() {
+		for (long seed = 1; seed <= 3; seed++) {
+			Random rand = new Random(seed);
+			DynamicPath dynamic = new DynamicPath();
+			ArrayList<Point> points = new ArrayList<Point>();
+			for (int i = 0; i < 200; i++) {
+				Point p = new Point(rand.nextInt(600), rand.nextInt(600));
+				dynamic.add(p.x, p.y);
+				points.add(p);
+			}
+
+			for (int edit = 0; edit < EDITS; edit++) {
+				//Keep the path between 2 and about 400 points, so it always has a segment to look up
+				int action = rand.nextInt(3);
+				if (points.size() <= 2)
+					action = 0;
+				else if (points.size() >= 400)
+					action = 1;
+
+				Point p = new Point(rand.nextInt(600), rand.nextInt(600));
+				if (action == 0) {
+					int index = rand.nextInt(points.size() + 1);
+					dynamic.insert(index, p.x, p.y);
+					points.add(index, p);
+				}
+				else if (action == 1) {
+					int index = rand.nextInt(points.size());
+					dynamic.remove(index);
+					points.remove(index);
+				}
+				else {
+					int index = rand.nextInt(points.size());
+					dynamic.move(index, p.x, p.y);
+					points.set(index, p);
+				}
+
+				Path path = new Path();
+				for (Point q : points)
+					path.add(q.x, q.y);
+
+				assertMatches(dynamic, path, rand, "Edit " + edit + " with seed " + seed);
+			}
+		}
+	}
+
+	/*
+	 * Compares a DynamicPath with a Path of the same points
+	 */
+	private static void assertMatches(DynamicPath dynamic, Path path, Random rand, String edit) {
+		int count = path.getPointCount();
+		assertEquals(count, dynamic.getPointCount(), edit);
+
+		double tolerance = 1e-9*Math.max(1, path.getTotalLength());
+		for (int i = 0; i < count; i++) {
+			assertEquals(path.getX(i), dynamic.getX(i), edit);
+			assertEquals(path.getY(i), dynamic.getY(i), edit);
+			if (i < count - 1)
+				assertEquals(path.getSegLength(i), dynamic.getSegLength(i), edit);
+			assertEquals(path.getDistanceTo(i), dynamic.getDistanceTo(i), tolerance, edit);
+		}
+		assertEquals(path.getTotalLength(), dynamic.getTotalLength(), tolerance, edit);
+
+		//Rounding can tip a location over a whole pixel, so allow a pixel either way
+		for (int i = 0; i < LOOKUPS; i++) {
+			double percent = rand.nextDouble();
+			Point expected = path.convertToCoordinates(percent);
+			Point actual = dynamic.convertToCoordinates(percent);
+			assertEquals(expected.x, actual.x, 1, edit + " at " + percent);
+			assertEquals(expected.y, actual.y, 1, edit + " at " + percent);
+		}
+	}
+
+	//Small path tests
+
+	/*
+	 * Checks that a path with one point returns that point, and a path with none throws, the same as Path
+	 */
+	@Test
+	void smallPathsMatchPath() {
+		DynamicPath dynamic = new DynamicPath();
+		Path path = new Path();
+		assertThrows(IllegalStateException.class, () -> dynamic.convertToCoordinates(0.5));
+		assertThrows(IllegalStateException.class, () -> path.convertToCoordinates(0.5));
+
+		dynamic.add(12, 34);
+		path.add(12, 34);
+		double[] percentages = {-1, 0, 0.5, 1, 2};
+		for (double percent : percentages) {
+			assertEquals(new Point(12, 34), dynamic.convertToCoordinates(percent), "At " + percent);
+			assertEquals(new Point(12, 34), path.convertToCoordinates(percent), "At " + percent);
+		}
+	}
+
+	//Appended lookup table tests
+
+	/*
+	 * Builds a path point by point with a lookup table, and checks after every point that its locations match the same
+	 * path given a table once it is finished
+	 */
+	@Test
+	void appendedTableMatchesRebuiltTable() {
+		Random rand = new Random(5);
+		Path appended = new Path();
+		appended.buildLookupTable(1.0);
+		Path points = new Path();
+
+		for (int i = 0; i < 300; i++) {
+			int x = rand.nextInt(600);
+			int y = rand.nextInt(600);
+			appended.add(x, y);
+			points.add(x, y);
+			if (i == 0)
+				continue;
+
+			Path rebuilt = new Path();
+			rebuilt.setEqualTo(points);
+			rebuilt.buildLookupTable(1.0);
+
+			for (int k = 0; k < LOOKUPS; k++) {
+				double percent = k/(double) (LOOKUPS - 1);
+				assertEquals(rebuilt.convertToCoordinates(percent), appended.convertToCoordinates(percent),
+						"Point " + i + " at " + percent);
+			}
+		}
+	}
+}
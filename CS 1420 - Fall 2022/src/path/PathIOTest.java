@@ -0,0 +1,102 @@
+package path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PathIOTest {
+	@TempDir
+	File folder;
+
+	//Round trip tests
+
+	/*
+	 * Checks that writing a path as binary and reading it back gives the same points, for paths of every size
+	 */
+	@Test
+	void binaryRoundTrip() throws IOException {
+		int[] sizes = {0, 1, 2, 1000, 100000};
+		for (int size : sizes) {
+			Path path = PathBenchmark.generatePath(size, size);
+			File file = new File(folder, "round" + size + "." + PathIO.BINARY_EXTENSION);
+
+			PathIO.writeBinary(path, file);
+			assertSamePoints(path, PathIO.readBinary(file));
+		}
+	}
+
+	/*
+	 * Checks that writing a path as text and reading it back gives the same points
+	 */
+	@Test
+	void textRoundTrip() throws IOException {
+		Path path = PathBenchmark.generatePath(1000, 3);
+		File file = new File(folder, "round." + PathIO.TEXT_EXTENSION);
+
+		PathIO.writeText(path, file);
+		assertSamePoints(path, PathIO.readText(file));
+	}
+
+	/*
+	 * Checks that save() and load() pick the format from the file's extension
+	 */
+	@Test
+	void formatFollowsExtension() throws IOException {
+		Path path = PathBenchmark.generatePath(500, 4);
+		File binary = new File(folder, "picked." + PathIO.BINARY_EXTENSION);
+		File text = new File(folder, "picked." + PathIO.TEXT_EXTENSION);
+
+		PathIO.save(path, binary);
+		PathIO.save(path, text);
+
+		assertTrue(PathIO.isBinary(binary));
+		assertFalse(PathIO.isBinary(text));
+		assertEquals(path.toString(), new String(Files.readAllBytes(text.toPath())));
+		assertSamePoints(path, PathIO.load(binary));
+		assertSamePoints(path, PathIO.load(text));
+	}
+
+	//Bad file tests
+
+	/*
+	 * Checks that a binary file cut short is rejected instead of read as a shorter path
+	 */
+	@Test
+	void truncatedBinaryIsRejected() throws IOException {
+		File file = new File(folder, "short." + PathIO.BINARY_EXTENSION);
+		PathIO.writeBinary(PathBenchmark.generatePath(100, 5), file);
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(raf.length() - 4);
+		}
+
+		assertThrows(IOException.class, () -> PathIO.readBinary(file));
+	}
+
+	/*
+	 * Checks that a text path isn't mistaken for a binary one
+	 */
+	@Test
+	void textIsNotReadAsBinary() throws IOException {
+		File file = new File(folder, "text." + PathIO.BINARY_EXTENSION);
+		PathIO.writeText(PathBenchmark.generatePath(100, 6), file);
+
+		assertThrows(IOException.class, () -> PathIO.readBinary(file));
+	}
+
+	/*
+	 * Checks that two paths have the same points in the same order
+	 */
+	private static void assertSamePoints(Path expected, Path actual) {
+		assertEquals(expected.getPointCount(), actual.getPointCount());
+		for (int i = 0; i < expected.getPointCount(); i++) {
+			assertEquals(expected.getX(i), actual.getX(i), "x of point " + i);
+			assertEquals(expected.getY(i), actual.getY(i), "y of point " + i);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Point;
+
+import org.junit.jupiter.api.Test;
+
+class PathLookupTest {
+
+	//Binary search and batch tests
+
+	/*
+	 * Checks that the binary search lookup and a batch of the same percentages give the same coordinates as the linear
+	 * scan, including at both ends of the path
+	 */
+	@Test
+	void lookupsMatchLinearScan() {
+		int[] sizes = {2, 118, 1000, 10000};
+		for (int size : sizes) {
+			Path path = PathBenchmark.generatePath(size, 42);
+			int checks = 2000;
+
+			double[] percentages = new double[checks + 1];
+			int[] batchX = new int[checks + 1];
+			int[] batchY = new int[checks + 1];
+			for (int i = 0; i <= checks; i++)
+				percentages[i] = i/(double) checks;
+			path.convertToCoordinates(percentages, batchX, batchY, checks + 1);
+
+			for (int i = 0; i <= checks; i++) {
+				Point expected = PathBenchmark.linearConvert(path, percentages[i]);
+				assertEquals(expected, path.convertToCoordinates(percentages[i]), "Lookup at " + percentages[i]);
+				assertEquals(expected, new Point(batchX[i], batchY[i]), "Batch lookup at " + percentages[i]);
+			}
+		}
+	}
+
+	/*
+	 * Checks that percentages out of order still get the right location in a batch
+	 */
+	@Test
+	void batchHandlesUnsortedPercentages() {
+		Path path = PathBenchmark.generatePath(1000, 7);
+		double[] percentages = {0.9, 0.1, 0.5, 0.5, 0.0, 1.0, -0.5, 1.5};
+		int[] xs = new int[percentages.length];
+		int[] ys = new int[percentages.length];
+		path.convertToCoordinates(percentages, xs, ys, percentages.length);
+
+		for (int i = 0; i < percentages.length; i++)
+			assertEquals(path.convertToCoordinates(percentages[i]), new Point(xs[i], ys[i]), "Batch lookup at " + percentages[i]);
+	}
+
+	//Lookup table tests
+
+	/*
+	 * Checks that a batch gives the same coordinates as single lookups when the path has a lookup table
+	 */
+	@Test
+	void tableBatchMatchesSingleLookups() {
+		Path path = PathBenchmark.generatePath(10000, 42);
+		path.buildLookupTable(1.0);
+		int checks = 2000;
+
+		double[] percentages = new double[checks + 1];
+		int[] batchX = new int[checks + 1];
+		int[] batchY = new int[checks + 1];
+		for (int i = 0; i <= checks; i++)
+			percentages[i] = i/(double) checks;
+		path.convertToCoordinates(percentages, batchX, batchY, checks + 1);
+
+		for (int i = 0; i <= checks; i++)
+			assertEquals(path.convertToCoordinates(percentages[i]), new Point(batchX[i], batchY[i]), "Batch lookup at " + percentages[i]);
+	}
+
+	/*
+	 * Checks that a 1 pixel lookup table stays within a pixel and a half of the exact location, the rounding of both
+	 * coordinates
+	 */
+	@Test
+	void tableStaysNearExactLocation() {
+		int[] sizes = {118, 1000, 10000};
+		for (int size : sizes) {
+			Path path = PathBenchmark.generatePath(size, 42);
+			path.buildLookupTable(1.0);
+
+			for (int i = 0; i <= 20000; i++) {
+				double percent = i/20000.0;
+				Point exact = PathBenchmark.linearConvert(path, percent);
+				assertTrue(exact.distance(path.convertToCoordinates(percent)) <= 1.5, "Table lookup at " + percent);
+			}
+		}
+	}
+
+	/*
+	 * Checks that the last interval of the table is measured to the end of the path, which is closer than the spacing
+	 */
+	@Test
+	void tableLastIntervalReachesEndOfPath() {
+		Path path = new Path();
+		path.add(0, 0);
+		path.add(10, 0);
+		path.add(10, 3);
+		path.buildLookupTable(5.0);
+
+		//Samples at 0, 5, 10 and the end at 13, so the last interval is 3 pixels wide
+		assertEquals(new Point(10, 1), path.convertToCoordinates(11.5/13.0));
+		assertEquals(new Point(10, 3), path.convertToCoordinates(1.0));
+	}
+}
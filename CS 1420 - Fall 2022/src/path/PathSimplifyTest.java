@@ -0,0 +1,115 @@
+package path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class PathSimplifyTest {
+
+	//Tolerance tests
+
+	/*
+	 * Checks that every point simplify() removes is within the tolerance of the simplified path, for several tolerances,
+	 * and that the points it keeps are original points in their original order
+	 */
+	@Test
+	void removedPointsStayWithinTolerance() {
+		double[] tolerances = {0.5, 1, 2, 5, 20};
+		for (double tolerance : tolerances) {
+			Path path = PathBenchmark.generatePath(2000, 11);
+			Path simplified = path.simplify(tolerance);
+
+			int kept = 0;
+			for (int i = 0; i < path.getPointCount(); i++) {
+				if (kept < simplified.getPointCount() && path.getX(i) == simplified.getX(kept) && path.getY(i) == simplified.getY(kept)) {
+					kept++;
+					continue;
+				}
+				assertTrue(distanceToPath(path.getX(i), path.getY(i), simplified) <= tolerance,
+						"Point " + i + " with tolerance " + tolerance);
+			}
+			assertEquals(simplified.getPointCount(), kept, "Kept points out of order with tolerance " + tolerance);
+		}
+	}
+
+	/*
+	 * Checks that a larger tolerance never keeps more points
+	 */
+	@Test
+	void largerToleranceKeepsFewerPoints() {
+		Path path = PathBenchmark.generatePath(2000, 12);
+		int previous = path.getPointCount();
+		for (double tolerance = 0; tolerance <= 50; tolerance += 2.5) {
+			int count = path.simplify(tolerance).getPointCount();
+			assertTrue(count <= previous, "Tolerance " + tolerance);
+			previous = count;
+		}
+	}
+
+	/*
+	 * Checks that points on a straight line are dropped, and a corner further than the tolerance is kept
+	 */
+	@Test
+	void collinearPointsAreDropped() {
+		Path path = new Path();
+		for (int x = 0; x <= 100; x += 10)
+			path.add(x, 0);
+		for (int y = 10; y <= 100; y += 10)
+			path.add(100, y);
+
+		Path simplified = path.simplify(1);
+		assertEquals(3, simplified.getPointCount());
+		assertEquals(0, simplified.getX(0));
+		assertEquals(100, simplified.getX(1));
+		assertEquals(0, simplified.getY(1));
+		assertEquals(100, simplified.getY(2));
+
+		//A tolerance past the corner's distance from the straight line drops it too
+		assertEquals(2, path.simplify(80).getPointCount());
+	}
+
+	//Endpoint tests
+
+	/*
+	 * Checks that the first and last points are always kept, even with a huge tolerance, and that tiny paths are copied
+	 */
+	@Test
+	void endpointsAreKept() {
+		Random rand = new Random(13);
+		for (int size = 0; size <= 50; size++) {
+			Path path = new Path();
+			for (int i = 0; i < size; i++)
+				path.add(rand.nextInt(600), rand.nextInt(600));
+
+			Path simplified = path.simplify(1e9);
+			assertEquals(Math.min(size, 2), simplified.getPointCount(), "Size " + size);
+			if (size > 0) {
+				assertEquals(path.getX(0), simplified.getX(0));
+				assertEquals(path.getY(0), simplified.getY(0));
+				assertEquals(path.getX(size-1), simplified.getX(simplified.getPointCount()-1));
+				assertEquals(path.getY(size-1), simplified.getY(simplified.getPointCount()-1));
+			}
+		}
+	}
+
+	/*
+	 * Gets the distance from a point to the closest segment of a path
+	 */
+	private static double distanceToPath(int px, int py, Path path) {
+		double closest = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < path.getPointCount() - 1; i++) {
+			double dx = path.getX(i+1) - path.getX(i);
+			double dy = path.getY(i+1) - path.getY(i);
+			double lengthSq = dx*dx + dy*dy;
+			double t = 0;
+			if (lengthSq > 0)
+				t = Math.max(0, Math.min(1, ((px - path.getX(i))*dx + (py - path.getY(i))*dy)/lengthSq));
+
+			closest = Math.min(closest, Math.hypot(path.getX(i) + t*dx - px, path.getY(i) + t*dy - py));
+		}
+
+		return closest;
+	}
+}
@@ -0,0 +1,114 @@
+package path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class PathSplineTest {
+
+	//Control point tests
+
+	/*
+	 * Checks that the curve starts on the first control point, ends on the last, and passes close to every one between.
+	 * Points are only placed every spacing pixels, so a middle control point falls between points, and at a sharp turn
+	 * the segment joining them cuts the corner by up to half the spacing.
+	 */
+	@Test
+	void curvePassesThroughControlPoints() {
+		Random rand = new Random(21);
+		double[] spacings = {1, 2, 5};
+		for (double spacing : spacings) {
+			for (int trial = 0; trial < 20; trial++) {
+				Path controls = new Path();
+				int count = 3 + rand.nextInt(10);
+				for (int i = 0; i < count; i++)
+					controls.add(rand.nextInt(600), rand.nextInt(600));
+
+				Path smooth = Path.fromControlPoints(controls, spacing);
+				String trialName = "Trial " + trial + " with spacing " + spacing;
+				assertEquals(controls.getX(0), smooth.getX(0), trialName);
+				assertEquals(controls.getY(0), smooth.getY(0), trialName);
+				assertEquals(controls.getX(count-1), smooth.getX(smooth.getPointCount()-1), trialName);
+				assertEquals(controls.getY(count-1), smooth.getY(smooth.getPointCount()-1), trialName);
+
+				double tolerance = Math.max(1, spacing/2);
+				for (int i = 1; i < count - 1; i++)
+					assertTrue(distanceToPath(controls.getX(i), controls.getY(i), smooth) <= tolerance,
+							"Control point " + i + " in " + trialName);
+			}
+		}
+	}
+
+	/*
+	 * Checks that the points are spaced evenly along the curve, allowing for rounding and the shorter last segment
+	 */
+	@Test
+	void pointsAreEvenlySpaced() {
+		Path controls = new Path();
+		controls.add(50, 50);
+		controls.add(300, 100);
+		controls.add(200, 400);
+		controls.add(500, 500);
+
+		double spacing = 10;
+		Path smooth = Path.fromControlPoints(controls, spacing);
+		for (int i = 0; i < smooth.getPointCount() - 2; i++)
+			assertEquals(spacing, smooth.getSegLength(i), 1.5, "Segment " + i);
+		assertTrue(smooth.getSegLength(smooth.getPointCount() - 2) <= spacing + 1.5);
+	}
+
+	//Small input tests
+
+	/*
+	 * Checks that fewer than three control points are copied as a straight path
+	 */
+	@Test
+	void fewControlPointsAreCopied() {
+		Path controls = new Path();
+		for (int count = 0; count < 3; count++) {
+			Path smooth = Path.fromControlPoints(controls, 5);
+			assertEquals(count, smooth.getPointCount());
+			for (int i = 0; i < count; i++) {
+				assertEquals(controls.getX(i), smooth.getX(i));
+				assertEquals(controls.getY(i), smooth.getY(i));
+			}
+			controls.add(100*count, 40*count);
+		}
+	}
+
+	/*
+	 * Checks that a spacing that isn't above 0 is rejected
+	 */
+	@Test
+	void badSpacingIsRejected() {
+		Path controls = new Path();
+		controls.add(0, 0);
+		controls.add(100, 0);
+		controls.add(100, 100);
+
+		assertThrows(IllegalArgumentException.class, () -> Path.fromControlPoints(controls, 0));
+		assertThrows(IllegalArgumentException.class, () -> Path.fromControlPoints(controls, -1));
+		assertThrows(IllegalArgumentException.class, () -> Path.fromControlPoints(controls, Double.NaN));
+	}
+
+	/*
+	 * Gets the distance from a point to the closest segment of a path
+	 */
+	private static double distanceToPath(int px, int py, Path path) {
+		double closest = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < path.getPointCount() - 1; i++) {
+			double dx = path.getX(i+1) - path.getX(i);
+			double dy = path.getY(i+1) - path.getY(i);
+			double lengthSq = dx*dx + dy*dy;
+			double t = 0;
+			if (lengthSq > 0)
+				t = Math.max(0, Math.min(1, ((px - path.getX(i))*dx + (py - path.getY(i))*dy)/lengthSq));
+
+			closest = Math.min(closest, Math.hypot(path.getX(i) + t*dx - px, path.getY(i) + t*dy - py));
+		}
+
+		return closest;
+	}
+}
@@ -0,0 +1,169 @@
+package path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class PathValidationTest {
+
+	//Simple path tests
+
+	/*
+	 * Checks that paths that never cross themselves, including ones that turn back along the same x, are valid
+	 */
+	@Test
+	void simplePathsAreValid() {
+		assertTrue(PathValidation.check(makePath(0, 0, 100, 0, 100, 100, 0, 100)).isValid());
+		assertTrue(PathValidation.check(makePath(0, 0, 0, 50, 10, 60, 10, 0, 20, 0, 20, 60)).isValid());
+		assertTrue(PathValidation.check(new Path()).isValid());
+		assertTrue(PathValidation.check(makePath(5, 5)).isValid());
+	}
+
+	//Crossing tests
+
+	/*
+	 * Checks that a bow tie reports its one crossing, lower segment first
+	 */
+	@Test
+	void crossingIsReported() {
+		PathValidation validation = PathValidation.check(makePath(0, 0, 100, 100, 100, 0, 0, 100));
+		assertFalse(validation.isValid());
+		List<int[]> crossings = validation.getIntersections();
+		assertEquals(1, crossings.size());
+		assertArrayEquals(new int[] {0, 2}, crossings.get(0));
+	}
+
+	/*
+	 * Checks that segments touching at a point the path visits twice, and vertical segments overlapping on one x, count
+	 * as crossings
+	 */
+	@Test
+	void touchesAndOverlapsAreReported() {
+		//Back to the start point at the end
+		List<int[]> crossings = PathValidation.check(makePath(0, 0, 100, 0, 100, 100, 0, 0)).getIntersections();
+		assertEquals(1, crossings.size());
+		assertArrayEquals(new int[] {0, 2}, crossings.get(0));
+
+		//Two vertical segments on x = 50 that overlap from y = 30 to 40
+		crossings = PathValidation.check(makePath(50, 30, 50, 60, 80, 60, 80, -50, 50, -50, 50, 40)).getIntersections();
+		assertEquals(1, crossings.size());
+		assertArrayEquals(new int[] {0, 4}, crossings.get(0));
+	}
+
+	/*
+	 * Checks that random paths are valid exactly when no two segments that aren't neighbours touch, and that every
+	 * crossing reported is real. Small coordinates make touching ends, shared points and collinear overlaps common.
+	 */
+	@Test
+	void matchesEveryPairCheck() {
+		Random rand = new Random(31);
+		for (int trial = 0; trial < 20000; trial++) {
+			int size = 2 + rand.nextInt(8);
+			int range = 2 + rand.nextInt(12);
+			Path path = new Path();
+			while (path.getPointCount() < size) {
+				int x = rand.nextInt(range);
+				int y = rand.nextInt(range);
+				int last = path.getPointCount() - 1;
+				if (last < 0 || path.getX(last) != x || path.getY(last) != y)
+					path.add(x, y);
+			}
+
+			PathValidation validation = PathValidation.check(path, Integer.MAX_VALUE);
+			assertEquals(!anyCrossing(path), validation.isValid(), "Trial " + trial + ": " + path);
+			for (int[] pair : validation.getIntersections())
+				assertTrue(pair[0] < pair[1] - 1 && touch(path, pair[0], pair[1]), "Trial " + trial + ": " + path);
+		}
+	}
+
+	/*
+	 * Checks that the crossing limit stops the search and marks the result as truncated
+	 */
+	@Test
+	void limitTruncatesCrossings() {
+		//A zigzag back and forth across a vertical line crosses it once per zig
+		Path path = new Path();
+		path.add(50, 0);
+		path.add(50, 1000);
+		for (int i = 0; i < 10; i++)
+			path.add(i % 2 == 0 ? 0 : 100, 1000 - 90*i);
+
+		PathValidation all = PathValidation.check(path, Integer.MAX_VALUE);
+		assertFalse(all.isTruncated());
+		assertTrue(all.getIntersections().size() > 3);
+
+		PathValidation limited = PathValidation.check(path, 3);
+		assertTrue(limited.isTruncated());
+		assertEquals(3, limited.getIntersections().size());
+	}
+
+	//Degenerate segment tests
+
+	/*
+	 * Checks that repeated points are reported as degenerate segments, and that the segments either side of them are
+	 * still treated as neighbours
+	 */
+	@Test
+	void degenerateSegmentsAreFound() {
+		PathValidation validation = PathValidation.check(makePath(0, 0, 10, 0, 10, 0, 10, 0, 10, 10, 20, 10, 20, 10));
+		assertFalse(validation.isValid());
+		assertEquals(List.of(1, 2, 5), validation.getDegenerateSegments());
+		assertTrue(validation.getIntersections().isEmpty());
+	}
+
+	/*
+	 * Makes a path from x, y pairs
+	 */
+	private static Path makePath(int... coordinates) {
+		Path path = new Path();
+		for (int i = 0; i < coordinates.length; i += 2)
+			path.add(coordinates[i], coordinates[i+1]);
+
+		return path;
+	}
+
+	/*
+	 * Checks every pair of segments that aren't neighbours for a touch. Assumes the path has no repeated points in a row.
+	 */
+	private static boolean anyCrossing(Path path) {
+		int segments = path.getPointCount() - 1;
+		for (int a = 0; a < segments; a++)
+			for (int b = a + 2; b < segments; b++)
+				if (touch(path, a, b))
+					return true;
+
+		return false;
+	}
+
+	/*
+	 * Checks if two segments share any point, using exact integer orientation tests
+	 */
+	private static boolean touch(Path path, int a, int b) {
+		long ax = path.getX(a), ay = path.getY(a), bx = path.getX(a+1), by = path.getY(a+1);
+		long cx = path.getX(b), cy = path.getY(b), dx = path.getX(b+1), dy = path.getY(b+1);
+
+		long d1 = orientation(cx, cy, dx, dy, ax, ay);
+		long d2 = orientation(cx, cy, dx, dy, bx, by);
+		long d3 = orientation(ax, ay, bx, by, cx, cy);
+		long d4 = orientation(ax, ay, bx, by, dx, dy);
+		if (Long.signum(d1)*Long.signum(d2) < 0 && Long.signum(d3)*Long.signum(d4) < 0)
+			return true;
+
+		return (d1 == 0 && within(cx, cy, dx, dy, ax, ay)) || (d2 == 0 && within(cx, cy, dx, dy, bx, by))
+				|| (d3 == 0 && within(ax, ay, bx, by, cx, cy)) || (d4 == 0 && within(ax, ay, bx, by, dx, dy));
+	}
+
+	private static long orientation(long x1, long y1, long x2, long y2, long px, long py) {
+		return (x2 - x1)*(py - y1) - (y2 - y1)*(px - x1);
+	}
+
+	/*
+	 * Checks if a point collinear with a segment lies within the segment's bounds
+	 */
+	private static boolean within(long x1, long y1, long x2, long y2, long px, long py) {
+		return Math.min(x1, x2) <= px && px <= Math.max(x1, x2) && Math.min(y1, y2) <= py && py <= Math.max(y1, y2);
+	}
+}
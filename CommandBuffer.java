@@ -0,0 +1,100 @@
+/**
+ * CommandBuffer class for the Tower Defense game.
+ * Records the side effects that game objects cause during their update (spawning objects, damaging enemies,
+ * and changing the user's money, score, and health) so they can be applied to the state later, in a fixed order.
+ * This lets game objects be updated on several threads at once without changing any shared state directly.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CommandBuffer {
+	// Spawned objects, in the order they were spawned
+	private List<GameObject> spawns;
+	
+	// Damage dealt to enemies - each damaged enemy is paired with the damage at the same index
+	private List<Enemy> damagedEnemies;
+	private int[] damageAmounts;
+	
+	// User stat changes - these only ever add up, so they are kept as running totals
+	private int money;
+	private int score;
+	private int userDamage;
+	
+	/**
+	 * Creates an empty command buffer.
+	 */
+	public CommandBuffer() {
+		spawns = new ArrayList<GameObject>();
+		damagedEnemies = new ArrayList<Enemy>();
+		damageAmounts = new int[16];
+	}
+	
+	/**
+	 * Records a new game object to be added to the next frame.
+	 * @param go The GameObject to be added.
+	 */
+	public void addGameObject(GameObject go) { spawns.add(go); }
+	
+	/**
+	 * Records damage to be dealt to the given enemy.
+	 * @param e The enemy to be damaged.
+	 * @param damage Damage dealt to the enemy.
+	 */
+	public void damageEnemy(Enemy e, int damage) {
+		// Grow the damage array if it's full
+		if (damagedEnemies.size() == damageAmounts.length) {
+			int[] newAmounts = new int[damageAmounts.length*2];
+			System.arraycopy(damageAmounts, 0, newAmounts, 0, damageAmounts.length);
+			damageAmounts = newAmounts;
+		}
+		
+		damageAmounts[damagedEnemies.size()] = damage;
+		damagedEnemies.add(e);
+	}
+	
+	/**
+	 * Records money to be given to the user.
+	 * @param mod Amount of money given to the user.
+	 */
+	public void creditUser(int mod) { money += mod; }
+	/**
+	 * Records an increase to the user's score.
+	 * @param mod Amount to increase score.
+	 */
+	public void increaseScore(int mod) { score += mod; }
+	/**
+	 * Records damage to be done to the user.
+	 * @param mod Amount of damage done to user.
+	 */
+	public void damageUser(int mod) { userDamage += mod; }
+	
+	/**
+	 * Applies every recorded command to the given state, then empties the buffer so it can be reused.
+	 * Spawned objects are added in the order they were recorded.
+	 * 
+	 * @param state The state to apply the commands to.
+	 */
+	public void apply(State state) {
+		for (int i = 0; i < spawns.size(); i++)
+			state.addGameObject(spawns.get(i));
+		
+		for (int i = 0; i < damagedEnemies.size(); i++)
+			damagedEnemies.get(i).damage(damageAmounts[i]);
+		
+		state.creditUser(money);
+		state.increaseScore(score);
+		state.damageUser(userDamage);
+		
+		// Reset the buffer
+		spawns.clear();
+		damagedEnemies.clear();
+		money = 0;
+		score = 0;
+		userDamage = 0;
+	}
+}
@@ -1,44 +1,55 @@
 /**
  * Control class for the Tower Defense game.
  * Controls the main game loop through the GUI thread using the run() method.
- * Contains fields for the path the game objects follow, the state and view objects, and the map with all cached images.
+ * The game state is advanced in fixed-length ticks, independent of how often the frame is repainted.
+ * Can also be created without a display, in which case the game is only advanced by calling tick().
+ * The game loop goes idle--no ticks and no repaints--while the game is paused or over, or its window is minimized or
+ * unfocused, and wakes back up on input or when the window is restored.
+ * Contains fields for the path graph the game objects follow and the state and view objects.
+ * Enemies are spawned onto the graph's routes in turn, so every spawn point of a multi-lane map is used.
  * 
  * @author Tyler C. Wilcox
  * @version 19 November 2022
  */
 package game;
 
+import java.awt.Window;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.io.InputStream;
-import java.util.Map;
 import java.util.Scanner;
-import java.util.TreeMap;
 
-import javax.imageio.ImageIO;
 import javax.swing.SwingUtilities;
 import javax.swing.Timer;
-import path.Path;
+import path.PathCorridor;
+import path.PathGraph;
+import path.PathIO;
+import path.PathRoute;
 
 public class Control implements Runnable,
 								ActionListener,
 								MouseListener,
-								MouseMotionListener
+								MouseMotionListener,
+								KeyListener
 								{
 	// Control fields
 	private State state;
 	private View view;
-	private Path path;
+	private PathGraph pathGraph;
+	private int spawnCount;		// Enemies spawned so far, used to pick the route of the next one
 	private Scanner enemyScanner;
-	private Map<String,BufferedImage> imageCache;
+	private ParallelUpdater updater;
 	
 	// Enemy fields
 	private double waveTime; // Time between enemy spawns
+	private int waveNumber = 1;
 	private int snailHealth = 2;
 	private int vanHealth = 4;
 	
@@ -61,30 +72,143 @@ public class Control implements Runnable,
 	public final int TOP = 7;
 	
 	// Tower fields
+	private int pathClearance = 22;		// Closest a tower can be built to the path, in pixels
 	private int dumbTowerCost = 100;
 	private int smartTowerCost = 500;
 	
+	// Loop timing fields
+	private double tickLength = 1.0/60.0;	// Simulated seconds per tick (60 ticks per second)
+	private int renderDelay = 16;			// Milliseconds between repaints (~60 FPS)
+	private int maxTicksPerFrame = 10;		// Most ticks run before a repaint, so a long stall can't snowball
+	private double tickAccumulator;			// Real time (seconds) waiting to be simulated
+	private double prevRenderTime;			// Real clock time of the previous repaint
+	
+	// Idle fields - the timer only runs while something on screen can change
+	private Timer timer;
+	private boolean isPaused;
+	private boolean isMinimized;
+	private boolean isFocused = true;
+	
+	// Speed fields - game speed is a multiplier on how much game time is simulated per second of real time
+	public final int MAX_SPEED = 0;							// Special speed: simulate as many ticks as fit in each repaint
+	private final int[] speedSettings = {1, 2, 4, 16, MAX_SPEED};
+	private int speedIndex = 0;
+	private double maxSpeedBudget = 0.012;					// Real seconds per repaint spent simulating at MAX_SPEED
+	
+	// Clock fields
+	private SteppedClock gameClock;		// Game time - stepped once per tick and read by the game state
+	private GameClock realClock;		// Real time - only used to decide how many ticks to run
+	
 	/**
 	 * Constructor - creates a new GUI thread to run the game application on.
 	 */
 	public Control() {
-		// Start GUI thread
-		SwingUtilities.invokeLater(this);
+		this(true);
+	}
+	
+	/**
+	 * Constructor - creates a new game, either on a new GUI thread or without any display.
+	 * A game created without a display is set up immediately and is only advanced by calling tick().
+	 * 
+	 * @param useDisplay true to open the game window and run the game loop, false to run headless.
+	 */
+	public Control(boolean useDisplay) {
+		if (useDisplay)
+			SwingUtilities.invokeLater(this); // Start GUI thread
+		else
+			setUpGame();
 	}
 	
 	/**
-	 * Game thread method. Loads all necessary objects and creates the timer that 
+	 * Game thread method. Sets up the game, builds the view, and creates the timer that drives the game loop.
 	 */
 	public void run() {
-		// Create control objects
-		state = new State();
+		setUpGame();
+		
+		// Create the view and implement mouse listeners
 		view = new View(state, this);
+		view.addMouseListener(this);
+		view.addMouseMotionListener(this);
+		view.addKeyListener(this);
+		view.setFocusable(true);
+		view.requestFocusInWindow();
+		view.repaint();
+		
+		// Go idle while the window is minimized or unfocused, and wake up when it comes back
+		Window window = SwingUtilities.getWindowAncestor(view);
+		WindowAdapter windowWatcher = new WindowAdapter() {
+			@Override
+			public void windowIconified(WindowEvent e) { isMinimized = true; updateTimer(); }
+			@Override
+			public void windowDeiconified(WindowEvent e) { isMinimized = false; updateTimer(); }
+			@Override
+			public void windowLostFocus(WindowEvent e) { isFocused = false; updateTimer(); }
+			@Override
+			public void windowGainedFocus(WindowEvent e) { isFocused = true; updateTimer(); }
+		};
+		window.addWindowListener(windowWatcher);
+		window.addWindowFocusListener(windowWatcher);
+        
+        // Creates a new timer that triggers every renderDelay milliseconds
+        timer = new Timer(renderDelay, this);
+        updateTimer();
+	}
+	
+	/**
+	 * Checks if anything on screen can change: the game isn't paused or over and its window is showing and focused.
+	 * 
+	 * @return true if the game loop needs to keep running.
+	 */
+	public boolean isActive() {
+		return !isPaused && !isMinimized && isFocused && !state.isGameOver();
+	}
+	
+	/**
+	 * Starts or stops the game loop timer to match whether the game is active, then repaints the frame so the
+	 * change shows. Time spent idle is thrown away when the timer restarts, so the game doesn't try to catch up on it.
+	 */
+	private void updateTimer() {
+		if (timer == null)
+			return; // Headless games have no timer
+		
+		if (isActive()) {
+			if (!timer.isRunning()) {
+				prevRenderTime = realClock.getTime();
+				tickAccumulator = 0;
+				timer.start();
+			}
+		}
+		else
+			timer.stop();
 		
-		// Load image cache, path, and enemy spawn order
-		imageCache = new TreeMap<String,BufferedImage>();
+		view.repaint();
+	}
+	
+	/**
+	 * Wakes the game loop up after user input. Input means the user is back at the window, even if it hasn't
+	 * reported regaining focus yet.
+	 */
+	private void wake() {
+		isFocused = true;
+		updateTimer();
+	}
+	
+	/**
+	 * Creates the game state and loads every object the game needs before the first tick.
+	 * Does not touch the display, so it is shared by windowed and headless games.
+	 */
+	private void setUpGame() {
+		// Create control objects
+		gameClock = new SteppedClock();
+		realClock = new WallClock();
+		state = new State(gameClock);
+		
+		// Load path and enemy spawn order
 		loadPath();
 		loadWave();
 		
+		updater = new ParallelUpdater(state, pathGraph, Runtime.getRuntime().availableProcessors());
+		
 		// Initialize user stats
 		state.creditUser(startingMoney);
 		state.healUser(startingHealth);
@@ -92,30 +216,71 @@ public class Control implements Runnable,
 		// Initialize wave loading values
 		waveTime = 4; // First wave: load a new enemy every 8 seconds
 		
-		// Implement mouse listeners
-		view.addMouseListener(this);
-		view.addMouseMotionListener(this);
-		
 		// Begins creation of a new frame with the background and menu.
         state.startFrame();
         state.addGameObject(new Background(state, this));
         state.addGameObject(new Menu(state, this));
         state.addGameObject(new MenuButton(state, this, 700, 350, "Basic Launcher"));
         state.addGameObject(new MenuButton(state, this, 700, 450, "Smart Launcher"));
+        state.addGameObject(new SpeedButton(state, this, 700, 530));
         state.finishFrame();
-        view.repaint();
-        
-        // Creates a new timer that triggers every 16 milliseconds (60 FPS)
-        Timer t = new Timer(16, this);
-        t.start();
 	}
 	
 	/**
-	 * Every time an action event fires--i.e. every frame--begins creation of a new frame, updates the game objects,
-	 * finishes creating the frame, and repaints the frame.
+	 * Every time an action event fires--i.e. every render--runs as many fixed-length ticks as the real time since the
+	 * last render allows, then repaints the frame interpolated between the last two ticks.
+	 * 
+	 * Faster game speeds bank more game time per render, but it is still simulated in the same fixed-length ticks,
+	 * so fast projectiles can't skip past enemies and the outcome matches normal speed.
 	 */
 	@Override
 	public void actionPerformed(ActionEvent e) {
+		// Bank the real time that has passed since the last render
+		double currentTime = realClock.getTime();
+		double realElapsed = currentTime - prevRenderTime;
+		prevRenderTime = currentTime;
+		
+		int speed = getSpeed();
+		
+		// At max speed, simulate ticks until this render's time budget is spent and draw the latest tick
+		if (speed == MAX_SPEED) {
+			while (isActive() && realClock.getTime() - currentTime < maxSpeedBudget)
+				tick();
+			
+			tickAccumulator = 0;
+			state.setRenderAlpha(1.0);
+		}
+		else {
+			tickAccumulator += realElapsed*speed;
+			
+			// Simulate the banked time in fixed steps
+			int ticks = 0;
+			while (tickAccumulator >= tickLength && ticks < maxTicksPerFrame*speed) {
+				tick();
+				tickAccumulator -= tickLength;
+				ticks++;
+			}
+			
+			// If we've fallen too far behind, drop the backlog rather than trying to catch up
+			if (tickAccumulator >= tickLength)
+				tickAccumulator = 0;
+			
+			state.setRenderAlpha(tickAccumulator/tickLength);
+		}
+		
+        view.repaint();
+        
+        // Once the last frame that can change has been drawn, stop until something wakes the game back up
+        if (!isActive())
+        	timer.stop();
+	}
+	
+	/**
+	 * Runs a single fixed-length tick of the game: steps the game clock, begins creation of a new frame,
+	 * updates the game objects and finishes creating the frame.
+	 */
+	public void tick() {
+		gameClock.step(tickLength);
         state.startFrame();
         
         // Check if gameflag is over. If not, check if it needs to be. If not, update the game state
@@ -135,15 +300,14 @@ public class Control implements Runnable,
         		state.setGameStarted(true);
         	
         	// As long as game is not over, continue to update the game state (even if game has not started yet).
-        	for (GameObject go : state.getFrameObjects())
-        			go.update(state.getElapsedTime());
+        	updater.update(state.getElapsedTime());
         }
         state.finishFrame();
-        view.repaint();
 	}
 	
 	/**
-	 * Loads the desired game path and stores it in the path field.
+	 * Loads the desired game path and stores it in the pathGraph field.
+	 * The file may hold a single path or a path graph with several routes; see PathIO.readGraph().
 	 */
 	private void loadPath() {
 		// Load the path from this object's resource folder
@@ -151,7 +315,13 @@ public class Control implements Runnable,
 		InputStream pathStream = myLoader.getResourceAsStream("resources/path.path");
 		Scanner pathScanner = new Scanner(pathStream);
 		
-		path = new Path(pathScanner);
+		pathGraph = PathIO.readGraph(pathScanner); // Spline paths are smoothed as they load
+		pathGraph.buildLookupTables(1.0); // Enemies look up their position every tick, so sample every leg every pixel
+		
+		// Draw the area around the path once, so placing a tower doesn't have to check every point of the path
+		PathCorridor pathCorridor = new PathCorridor(600, 600, pathClearance);
+		pathCorridor.addGraph(pathGraph);
+		state.setPathCorridor(pathCorridor);
 	}
 	
 	/**
@@ -175,10 +345,12 @@ public class Control implements Runnable,
 		// Check if the enemy scanner has another object to load, and if so, add the corresponding game object
 		if (enemyScanner.hasNext()) {
 			String nextChar = enemyScanner.next();
+			PathRoute route = pathGraph.getRoute(spawnCount % pathGraph.getRouteCount());
 			if (nextChar.equals("s"))
-				state.addGameObject(new Snail(state, this));
+				state.addGameObject(new Snail(state, this, route));
 			else if (nextChar.equals("v"))
-				state.addGameObject(new SCargo(state, this));
+				state.addGameObject(new SCargo(state, this, route));
+			spawnCount++;
 			
 			state.resetPrevEnemyTime();
 		}
@@ -188,45 +360,12 @@ public class Control implements Runnable,
 			loadWave();
 			
 			// Increment wave number
+			waveNumber++;
 			snailHealth++;
 			vanHealth++;
 		}
 	}
 	
-	/**
-	 * Returns the image file corresponding to the given filename.
-	 * Checks if the image is in the image cache, and if not loads and stores it within the cache.
-	 * 
-	 * @param filename The filename of the image to be loaded
-	 * @return The image to be returned
-	 */
-    public BufferedImage getImage (String filename)
-    {
-    	// Check if image is cached. If so, return it
-    	if (imageCache.containsKey(filename))
-    		return imageCache.get(filename);
-    	
-    	// If image is not cached, load it and save it to the cache. Includes a println statement to verify loading occurs once.
-        try
-        {        	
-        	// Loads the image from the resource folder in this object's directory
-        	ClassLoader myLoader = this.getClass().getClassLoader();
-        	InputStream imageStream = myLoader.getResourceAsStream("resources/" + filename);
-        	BufferedImage image = ImageIO.read(imageStream);
-        	
-        	// Store image in cache
-        	imageCache.put(filename, image);
-        	
-        	return image;
-        }
-        catch (IOException e)
-        {
-        	System.out.println("Failed to load resources/" + filename);
-        	System.exit(0); // If we fail to open the desired image, we crash the application
-        	return null; 	// Never happens
-        }
-    }
-    
     /*
      * Accessors
      */
@@ -235,12 +374,60 @@ public class Control implements Runnable,
     public int getSmartTowerCost() { return smartTowerCost; }
     public int getSnailHealth() { return snailHealth; }
     public int getVanHealth() { return vanHealth; }
+    /**
+     * Returns the number of the wave currently being spawned, starting from 1.
+     * @return the current wave number.
+     */
+    public int getWaveNumber() { return waveNumber; }
+    /**
+     * Returns the game's state object.
+     * @return the state of the game being controlled.
+     */
+    public State getState() { return state; }
     
     /**
-     * Returns the game's path field.
-     * @return The path field to be returned.
+     * Returns the current game speed multiplier, or MAX_SPEED if the game is running as fast as possible.
+     * @return the game speed multiplier.
+     */
+    public int getSpeed() { return speedSettings[speedIndex]; }
+    /**
+     * Switches to the next game speed setting, wrapping back around to normal speed after MAX_SPEED.
      */
-	public Path getPath() { return path; }
+    public void cycleSpeed() {
+    	speedIndex = (speedIndex + 1) % speedSettings.length;
+    	tickAccumulator = 0;
+    }
+    
+    /**
+     * Returns the length of a single simulation tick.
+     * @return seconds of game time simulated per tick.
+     */
+    public double getTickLength() { return tickLength; }
+    /**
+     * Sets how many fixed simulation ticks are run per second of game time. Independent of the repaint rate.
+     * @param ticksPerSecond The new tick rate.
+     */
+    public void setTickRate(int ticksPerSecond) { tickLength = 1.0/ticksPerSecond; }
+    
+    /**
+     * Returns whether the user has paused the game.
+     * @return true if the game is paused.
+     */
+    public boolean isPaused() { return isPaused; }
+    /**
+     * Pauses or resumes the game. The game loop stops entirely while the game is paused.
+     * @param paused true to pause the game, false to resume it.
+     */
+    public void setPaused(boolean paused) {
+    	isPaused = paused;
+    	updateTimer();
+    }
+    
+    /**
+     * Returns the game's path graph, holding every leg and route enemies can follow.
+     * @return The pathGraph field to be returned.
+     */
+	public PathGraph getPathGraph() { return pathGraph; }
 	/**
 	 * Returns the x location of the mouse in the game field.
 	 * @return x coordinate of the mouse.
@@ -256,11 +443,22 @@ public class Control implements Runnable,
 	public void mouseDragged(MouseEvent e) {}
 	/**
 	 * Gets the x and y coordinates of the mouse every time that it moves and stores them in the mouseX and mouseY fields.
+	 * If a tower is being placed, wakes the game loop up, and if the game is paused or over moves the tower itself so
+	 * it still follows the mouse.
 	 */
 	@Override
 	public void mouseMoved(MouseEvent e) {
 		mouseX = e.getX();
 		mouseY = e.getY();
+		
+		for (Tower t : state.getTowers())
+			if (t.isMoving()) {
+				wake();
+				if (!isActive()) {
+					t.followMouse();
+					view.repaint();
+				}
+			}
 	}
 	@Override
 	public void mouseClicked(MouseEvent e) {}
@@ -272,26 +470,36 @@ public class Control implements Runnable,
 	 */
 	@Override
 	public void mouseReleased(MouseEvent e) {
+		wake();
+		
 		// Check for any moving towers
-		for (GameObject go : state.getFrameObjects()) {
-			if (go instanceof Tower) {
-				Tower t = (Tower) go;
-				
-				if (t.isMoving())
-					if (((Clickable)t).consumeClick())
-						return;
-			}
-		}
+		for (Tower t : state.getTowers())
+			if (t.isMoving())
+				if (t.consumeClick())
+					return;
 		
 		// If no moving towers, select the first clickable game object
-		for (GameObject go : state.getFrameObjects())
-			if (go instanceof Clickable)
-				if (((Clickable) go).consumeClick())
-					return;
+		for (Clickable c : state.getClickables())
+			if (c.consumeClick())
+				return;
 	}
 	
 	@Override
 	public void mouseEntered(MouseEvent e) {}
 	@Override
 	public void mouseExited(MouseEvent e) {}
+	
+	/**
+	 * Toggles pause when the user presses P. Any other key just wakes the game loop up.
+	 */
+	@Override
+	public void keyPressed(KeyEvent e) {
+		if (e.getKeyCode() == KeyEvent.VK_P)
+			setPaused(!isPaused);
+		wake();
+	}
+	@Override
+	public void keyReleased(KeyEvent e) {}
+	@Override
+	public void keyTyped(KeyEvent e) {}
 }
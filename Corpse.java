@@ -5,15 +5,14 @@
  */
 package game;
 
-import java.awt.Point;
-
 public abstract class Corpse extends GameObject {
 	// Corpse fields - Implemented by subclasses
 	protected int lifeSpan;				// How long should the corpse last
 	protected double generationTime;	// When was the corpse generated (seconds)
 	
 	// Coordinate fields
-	protected Point loc;
+	protected int x;
+	protected int y;
 
 	/**
 	 * Instantiates a new corpse object at the location that the instantiating enemy died.
@@ -27,12 +26,13 @@ public abstract class Corpse extends GameObject {
 	public Corpse(State state, Control control, int x, int y) {
 		super(state, control);
 
-		loc = new Point(x,y);
+		this.x = x;
+		this.y = y;
 		
 		drawLevel = control.GROUND; // All corpses should be drawn just above the background
 		
 		// Flag construction time
-		generationTime = System.currentTimeMillis()/1000d;
+		generationTime = state.getClock().getTime();
 		
 		isVisible = true;
 		isExpired = false;
@@ -44,9 +44,21 @@ public abstract class Corpse extends GameObject {
 	 */
 	@Override
 	public void update(double elapsedTime) {
-		if (System.currentTimeMillis()/1000d - generationTime > lifeSpan) {
+		if (state.getClock().getTime() - generationTime > lifeSpan) {
 			isVisible = false;
 			isExpired = true;
 		}
 	}
+	
+	/**
+	 * Gets the x-coordinate of the center of the corpse.
+	 * @return the corpse's x-coordinate.
+	 */
+	public int getX() { return x; }
+	
+	/**
+	 * Gets the y-coordinate of the center of the corpse.
+	 * @return the corpse's y-coordinate.
+	 */
+	public int getY() { return y; }
 }
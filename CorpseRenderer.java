@@ -0,0 +1,33 @@
+/**
+ * CorpseRenderer class, an implementation of the Renderer interface for Corpse objects.
+ * Draws the corpse's sprite about the location the enemy died at.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+public class CorpseRenderer implements Renderer<Corpse> {
+	private BufferedImage image;
+	
+	/**
+	 * Creates a renderer that draws corpses with the given sprite.
+	 * 
+	 * @param image The corpse's sprite.
+	 */
+	public CorpseRenderer(BufferedImage image) {
+		this.image = image;
+	}
+	
+	/**
+	 * Draws the corpse sprite at the given location.
+	 */
+	@Override
+	public void draw(Graphics g, Corpse c) {
+		// Draws the image at the given point about its center
+		g.drawImage(image, c.getX() - image.getWidth()/2, c.getY() - image.getHeight()/2, null);
+	}
+}
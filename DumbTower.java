@@ -8,10 +8,6 @@
  */
 package game;
 
-import java.awt.Point;
-import java.util.ArrayList;
-import java.util.List;
-
 public class DumbTower extends Tower {
 	public DumbTower(State state, Control control) {
 		super(state, control);
@@ -34,10 +30,9 @@ public class DumbTower extends Tower {
 			isExpired = true;
 		}
 		
-		// Draw image and get its parameters
-		image = control.getImage("dumb_tower.png");
-		width = image.getWidth();
-		height = image.getHeight();
+		// Tower size, matching the dumb_tower.png sprite
+		width = 52;
+		height = 60;
 	}
 	
 	/*
@@ -53,7 +48,7 @@ public class DumbTower extends Tower {
 	public void update(double elapsedTime) {
 		// If in moving state, have it follow the mouse cursor and end the update
 		if (isMoving) {
-			loc = new Point(control.getX(), control.getY());
+			followMouse();
 			return;
 		}
 		
@@ -89,14 +84,14 @@ public class DumbTower extends Tower {
 		
 		// Calculate targeting data
 		double dist = distTo(e);
-		double unitX = (e.getX() - this.loc.x)/dist;
-		double unitY = (e.getY() - (this.loc.y - 3*height/4))/dist;
+		double unitX = (e.getX() - this.x)/dist;
+		double unitY = (e.getY() - (this.y - 3*height/4))/dist;
 		
 		double xVel = unitX*projectileSpeed;
 		double yVel = unitY*projectileSpeed;
 		
 		// Generate a projectile
-		state.addGameObject(new SaltCrystal(state, control, e, new Point(loc.x, loc.y - 3*height/4), xVel, yVel, attackDamage));
+		state.getCommands().addGameObject(new SaltCrystal(state, control, e, x, y - 3*height/4, xVel, yVel, attackDamage));
 		
 		// Reset attack statistics
 		attackTimer = 0;
@@ -111,23 +106,12 @@ public class DumbTower extends Tower {
 	@Override
 	public Enemy getTarget() {
 		// No targeting AI, tower targets the closest enemy that's in range
-		List<Enemy> potentialTargets = new ArrayList<Enemy>();
-		
-		for (GameObject go : state.getFrameObjects()) {
-			if (go instanceof Enemy) {
-				// Add all enemies to the potential target list
-				Enemy e = (Enemy) go;
-				potentialTargets.add(e);
-			}
-		}
-		
 		// Find the closest enemy, or return null if no enemy is in range
 		Enemy closestEnemy = null;
 		int closestRange = attackRange; // Set max range as default
 		int dist;
 		
-		if (potentialTargets.isEmpty()) return null;
-		for (Enemy e : potentialTargets)
+		for (Enemy e : state.getEnemies())
 			if (isInRange(e)) {
 				dist = distTo(e);
 				
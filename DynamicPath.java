@@ -0,0 +1,420 @@
+/**
+ * DynamicPath class for paths that change after they are built.
+ * Unlike Path, points can be inserted, removed and moved anywhere in the path, each in O(log n) time, so a path can be
+ * rerouted during play or edited point by point without measuring the whole path again.
+ * Points are kept in an implicit treap (a randomly balanced binary tree ordered by point index), where every node holds
+ * one point, the length of the segment from that point to the next, and the total segment length of its subtree.
+ * Cumulative lengths and position lookups walk down the tree, so they are also O(log n).
+ *
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+
+package path;
+
+import java.awt.Point;
+import java.util.Random;
+
+public class DynamicPath {
+	//Fields
+	private Node root;
+	private Random priorities; //Seeded, so the same edits always build the same tree and sum lengths in the same order
+
+	/**
+	 * Node of the treap. Holds one point and the length of the segment from it to the next point.
+	 */
+	private static class Node {
+		int x;
+		int y;
+		int priority;
+		double segLength;	//Length from this point to the next point, or 0 for the last point
+		int size;			//Number of points in this subtree
+		double sum;			//Total segment length of this subtree
+		Node left;
+		Node right;
+
+		Node(int x, int y, int priority) {
+			this.x = x;
+			this.y = y;
+			this.priority = priority;
+			size = 1;
+		}
+	}
+
+	/**
+	 * Empty constructor that creates an empty DynamicPath object.
+	 */
+	public DynamicPath() {
+		priorities = new Random(1420);
+	}
+
+	/**
+	 * Constructor that copies the points of the given path.
+	 *
+	 * @param path The path whose points are to be copied.
+	 */
+	public DynamicPath(Path path) {
+		this();
+		for (int i = 0; i < path.getPointCount(); i++)
+			add(path.getX(i), path.getY(i));
+	}
+
+	//Accessors
+	/**
+	 * Gets the number of points in the path.
+	 *
+	 * @return an integer with the number of points.
+	 */
+	public int getPointCount() {
+		return size(root);
+	}
+	/**
+	 * Gets the x value of the point at the given index.
+	 *
+	 * @param n The index of the point, starting at 0.
+	 * @return the x value of the point.
+	 */
+	public int getX(int n) {
+		return nodeAt(n).x;
+	}
+	/**
+	 * Gets the y value of the point at the given index.
+	 *
+	 * @param n The index of the point, starting at 0.
+	 * @return the y value of the point.
+	 */
+	public int getY(int n) {
+		return nodeAt(n).y;
+	}
+	/**
+	 * Gets the length of a single segment of the path.
+	 *
+	 * @param n The index of the segment, which runs from point n to point n+1.
+	 * @return The length of the segment
+	 */
+	public double getSegLength(int n) {
+		return nodeAt(n).segLength;
+	}
+	/**
+	 * Gets the total length of the path.
+	 *
+	 * @return the total length of every segment.
+	 */
+	public double getTotalLength() {
+		return sum(root);
+	}
+	/**
+	 * Gets the length of the path from the start point to the point at the given index.
+	 *
+	 * @param n The index of the point.
+	 * @return the distance along the path to point n
+	 */
+	public double getDistanceTo(int n) {
+		checkIndex(n, getPointCount());
+
+		//Add up the segments of every point before n on the way down to it
+		double distance = 0;
+		Node node = root;
+		while (node != null) {
+			int leftSize = size(node.left);
+			if (n < leftSize)
+				node = node.left;
+			else {
+				if (n == leftSize)
+					return distance + sum(node.left);
+				distance += sum(node.left) + node.segLength;
+				n -= leftSize + 1;
+				node = node.right;
+			}
+		}
+
+		return distance;
+	}
+
+	//Editing
+	/**
+	 * Appends a new point to the end of the path.
+	 *
+	 * @param x The x value of the point to be added.
+	 * @param y The y value of the point to be added.
+	 */
+	public void add(int x, int y) {
+		insert(getPointCount(), x, y);
+	}
+
+	/**
+	 * Inserts a new point into the path so it has the given index, shifting later points up by one.
+	 *
+	 * @param index The index of the new point, from 0 to the point count.
+	 * @param x The x value of the point to be added.
+	 * @param y The y value of the point to be added.
+	 */
+	public void insert(int index, int x, int y) {
+		checkIndex(index, getPointCount() + 1);
+
+		Node[] parts = split(root, index);
+		root = merge(merge(parts[0], new Node(x, y, priorities.nextInt())), parts[1]);
+
+		//The segments on either side of the new point have changed
+		refreshSegment(index - 1);
+		refreshSegment(index);
+	}
+
+	/**
+	 * Removes the point at the given index, shifting later points down by one.
+	 *
+	 * @param index The index of the point to be removed.
+	 */
+	public void remove(int index) {
+		checkIndex(index, getPointCount());
+
+		Node[] before = split(root, index);
+		Node[] after = split(before[1], 1);
+		root = merge(before[0], after[1]);
+
+		//The point before the removed one now connects to the point after it
+		refreshSegment(index - 1);
+	}
+
+	/**
+	 * Moves the point at the given index to a new location.
+	 *
+	 * @param index The index of the point to be moved.
+	 * @param x The new x value of the point.
+	 * @param y The new y value of the point.
+	 */
+	public void move(int index, int x, int y) {
+		Node node = nodeAt(index);
+		node.x = x;
+		node.y = y;
+
+		//The segments on either side of the point have changed
+		refreshSegment(index - 1);
+		refreshSegment(index);
+	}
+
+	/**
+	 * Copies the points into a new Path, for code that only needs to follow the path as it is now.
+	 *
+	 * @return a new Path with the same points.
+	 */
+	public Path toPath() {
+		Path path = new Path();
+		for (int i = 0; i < getPointCount(); i++)
+			path.add(getX(i), getY(i));
+
+		return path;
+	}
+
+	//Lookups
+	/**
+	 * Finds the first segment whose end point is at or past the given distance along the path.
+	 * Distances past the end of the path return the last segment.
+	 *
+	 * @param distance The distance along the path, from the start point.
+	 * @return The index of the segment containing the distance. Segment i runs from point i to point i+1.
+	 */
+	public int findSegment(double distance) {
+		//Walk down the tree, keeping the length of every segment before the current subtree.
+		//Segments of zero length at the start of the path are skipped, so a distance of 0 lands on a real segment.
+		int index = 0;
+		double before = 0;
+		Node node = root;
+		while (node != null) {
+			double leftSum = sum(node.left);
+			if (before + leftSum >= distance && before + leftSum > 0)
+				node = node.left;
+			else {
+				before += leftSum;
+				index += size(node.left);
+				if (before + node.segLength >= distance && before + node.segLength > 0)
+					return index;
+				before += node.segLength;
+				index++;
+				node = node.right;
+			}
+		}
+
+		return Math.max(0, getPointCount() - 2);
+	}
+
+	/**
+	 * Takes the percentage along the path and returns a point value associated with that location.
+	 * Behaves like Path.convertToCoordinates(): a path with a single point returns that point for every percentage.
+	 *
+	 * @param percentTraveled Percent distance traveled along the path. Should be a double between 0.0 and 1.0.
+	 * @return The coordinate point of the location that corresponds to the percentage distance traveled.
+	 * @throws IllegalStateException if the path has no points.
+	 */
+	public Point convertToCoordinates(double percentTraveled) {
+		return convertToCoordinates(percentTraveled, new Point());
+	}
+
+	/**
+	 * Takes the percentage along the path and stores the point value associated with that location in the given point.
+	 *
+	 * @param percentTraveled Percent distance traveled along the path. Should be a double between 0.0 and 1.0.
+	 * @param location The point to store the location in. Its previous value is overwritten.
+	 * @return The location point passed in, now holding the coordinates that correspond to the percentage distance traveled.
+	 * @throws IllegalStateException if the path has no points.
+	 */
+	public Point convertToCoordinates(double percentTraveled, Point location) {
+		int last = getPointCount() - 1;
+		if (last < 0)
+			throw new IllegalStateException("Can't find a location on a path with no points");
+
+		//Check for out of bounds inputs, and paths with only one point to be at
+		if (percentTraveled < 0 || last == 0) {
+			location.setLocation(getX(0), getY(0));
+			return location;
+		}
+		if (percentTraveled > 1) {
+			location.setLocation(getX(last), getY(last));
+			return location;
+		}
+
+		double distTraveled = percentTraveled*getTotalLength();
+		int i = findSegment(distTraveled);
+		Node start = nodeAt(i);
+		Node end = nodeAt(i+1);
+
+		double d = distTraveled - (getDistanceTo(i) + start.segLength);
+		double segPercent = start.segLength > 0 ? d/start.segLength : 0; //Get percent backwards from end of segment
+
+		location.setLocation((int)((1 + segPercent)*end.x - segPercent*start.x),
+				(int)((1 + segPercent)*end.y - segPercent*start.y));
+		return location;
+	}
+
+	//Tree operations
+	/**
+	 * Recalculates the length of the segment from the point at the given index to the next point, and the sums above it.
+	 * Does nothing if there is no point at the index.
+	 *
+	 * @param index The index of the segment's start point.
+	 */
+	private void refreshSegment(int index) {
+		int count = getPointCount();
+		if (index < 0 || index >= count)
+			return;
+
+		double length = 0;
+		if (index < count - 1) {
+			Node start = nodeAt(index);
+			Node end = nodeAt(index + 1);
+			double dx = end.x - start.x;
+			double dy = end.y - start.y;
+			length = Math.pow(dx*dx + dy*dy, 0.5);
+		}
+
+		setSegLength(root, index, length);
+	}
+
+	/**
+	 * Sets the segment length of the node at the given index below the given node, updating the sums on the way back up.
+	 */
+	private void setSegLength(Node node, int index, double length) {
+		int leftSize = size(node.left);
+		if (index < leftSize)
+			setSegLength(node.left, index, length);
+		else if (index > leftSize)
+			setSegLength(node.right, index - leftSize - 1, length);
+		else
+			node.segLength = length;
+
+		update(node);
+	}
+
+	/**
+	 * Gets the node holding the point at the given index.
+	 */
+	private Node nodeAt(int index) {
+		checkIndex(index, getPointCount());
+
+		Node node = root;
+		while (true) {
+			int leftSize = size(node.left);
+			if (index < leftSize)
+				node = node.left;
+			else if (index > leftSize) {
+				index -= leftSize + 1;
+				node = node.right;
+			}
+			else
+				return node;
+		}
+	}
+
+	/**
+	 * Splits the tree below the given node into its first count points and the rest.
+	 *
+	 * @return an array holding the root of the first part, then the root of the rest. Either may be null.
+	 */
+	private Node[] split(Node node, int count) {
+		if (node == null)
+			return new Node[] {null, null};
+
+		int leftSize = size(node.left);
+		if (count <= leftSize) {
+			Node[] parts = split(node.left, count);
+			node.left = parts[1];
+			update(node);
+			parts[1] = node;
+			return parts;
+		}
+		else {
+			Node[] parts = split(node.right, count - leftSize - 1);
+			node.right = parts[0];
+			update(node);
+			parts[0] = node;
+			return parts;
+		}
+	}
+
+	/**
+	 * Joins two trees, with every point of the first coming before every point of the second.
+	 *
+	 * @return the root of the joined tree.
+	 */
+	private Node merge(Node first, Node second) {
+		if (first == null)
+			return second;
+		if (second == null)
+			return first;
+
+		if (first.priority > second.priority) {
+			first.right = merge(first.right, second);
+			update(first);
+			return first;
+		}
+		else {
+			second.left = merge(first, second.left);
+			update(second);
+			return second;
+		}
+	}
+
+	/**
+	 * Recalculates the size and sum of the given node from its children.
+	 */
+	private void update(Node node) {
+		node.size = 1 + size(node.left) + size(node.right);
+		node.sum = node.segLength + sum(node.left) + sum(node.right);
+	}
+
+	private static int size(Node node) {
+		return node == null ? 0 : node.size;
+	}
+
+	private static double sum(Node node) {
+		return node == null ? 0 : node.sum;
+	}
+
+	/**
+	 * Throws an IndexOutOfBoundsException if the index isn't between 0 and limit - 1.
+	 */
+	private static void checkIndex(int index, int limit) {
+		if (index < 0 || index >= limit)
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + limit + " points");
+	}
+}
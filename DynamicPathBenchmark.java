@@ -0,0 +1,79 @@
+/**
+ * DynamicPathBenchmark class for timing path edits.
+ * Times building a Path point by point, then inserting, removing and moving points of a DynamicPath of the same size
+ * and looking up locations along it, for paths of up to 100,000 points.
+ * DynamicPathTest checks that the edited paths match paths built from scratch.
+ *
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+
+package path;
+
+import java.awt.Point;
+import java.util.Random;
+
+public class DynamicPathBenchmark {
+	// Sink for results so the lookups can't be optimized away
+	private static long checksum;
+
+	/**
+	 * Runs the benchmark on generated paths of increasing size.
+	 *
+	 * @param args Unused.
+	 */
+	public static void main(String[] args) {
+		int[] sizes = {1000, 10000, 100000};
+		for (int i = 0; i < 3; i++)
+			benchmark(sizes[0], false); // Warm up so the JIT has compiled the edits before timing
+
+		System.out.printf("%10s %14s %14s %14s %14s %14s%n", "points", "Path.add ns", "insert ns", "remove ns",
+				"move ns", "lookup ns");
+		for (int size : sizes)
+			benchmark(size, true);
+		System.out.println("(checksum " + checksum + ")");
+	}
+
+	/**
+	 * Times appending points to a Path, then times editing and looking up a DynamicPath with the same points.
+	 *
+	 * @param size Number of points in the paths.
+	 * @param print true to print the times.
+	 */
+	private static void benchmark(int size, boolean print) {
+		//Building the path point by point, as PathEditor does
+		long start = System.nanoTime();
+		Path path = PathBenchmark.generatePath(size, 42);
+		double add = (System.nanoTime() - start)/(double) size;
+
+		DynamicPath dynamic = new DynamicPath(path);
+		Random rand = new Random(7);
+		int edits = 20000;
+
+		start = System.nanoTime();
+		for (int i = 0; i < edits; i++)
+			dynamic.insert(rand.nextInt(dynamic.getPointCount() + 1), rand.nextInt(600), rand.nextInt(600));
+		double insert = (System.nanoTime() - start)/(double) edits;
+
+		start = System.nanoTime();
+		for (int i = 0; i < edits; i++)
+			dynamic.remove(rand.nextInt(dynamic.getPointCount()));
+		double remove = (System.nanoTime() - start)/(double) edits;
+
+		start = System.nanoTime();
+		for (int i = 0; i < edits; i++)
+			dynamic.move(rand.nextInt(dynamic.getPointCount()), rand.nextInt(600), rand.nextInt(600));
+		double move = (System.nanoTime() - start)/(double) edits;
+
+		start = System.nanoTime();
+		long sum = 0;
+		Point location = new Point();
+		for (int i = 0; i < edits; i++)
+			sum += dynamic.convertToCoordinates(rand.nextDouble(), location).x;
+		double lookup = (System.nanoTime() - start)/(double) edits;
+		checksum += sum;
+
+		if (print)
+			System.out.printf("%10d %14.1f %14.1f %14.1f %14.1f %14.1f%n", size, add, insert, remove, move, lookup);
+	}
+}
@@ -2,6 +2,9 @@
  * Abstract class representing an enemy unit that extends the GameObject class. 
  * Contains fields and accessors to get the unit's location (center of mass), height, and width.
  * Contains a method that checks if a given coordinate is within the unit's hitbox, based on its location and size.
+ * Each enemy follows its own route through the game's path graph, and its percentage is measured along that route.
+ * Speeds are set as a fraction of the graph's first route per second and scaled by the length of the enemy's own route,
+ * so every enemy of a kind covers the same number of pixels per second whichever route it takes.
  * Contains abstract methods for damaging and killing the enemy in question.
  * 
  * @author Tyler C. Wilcox
@@ -9,23 +12,34 @@
  */
 package game;
 
-import java.awt.Color;
-import java.awt.Graphics;
 import java.awt.Point;
 import java.util.ArrayList;
 import java.util.List;
 
+import path.PathRoute;
+
 public abstract class Enemy extends GameObject {
 	// Coordinate fields
+	protected PathRoute route;		// Route through the path graph this enemy follows
+	private double routeScale;		// Length of the graph's first route over the length of this enemy's route
 	protected double percentage;
-	protected Point loc;
+	protected int x;
+	protected int y;
+	protected int prevX;		// Location at the previous tick, used to interpolate drawing between ticks
+	protected int prevY;
+	
+	// Staged fields - computed by update() from the last committed state and published by commit()
+	private double nextPercentage;
+	private int nextX;
+	private int nextY;
+	private boolean nextExpired;
 	
 	// Size fields - Implemented by subclasses
 	protected int width;
 	protected int height;
 	
 	// Enemy parameters - Implemented by subclasses
-	protected double speed;			// Speed it travels at
+	protected double speed;			// Speed it travels at, in percentage of the graph's first route per second
 	protected int maxHealth;		// Max health
 	protected int health;			// Current health
 	protected int monetaryValue;	// Monetary worth when killed
@@ -35,10 +49,20 @@ public abstract class Enemy extends GameObject {
 	// AI logic fields
 	protected boolean isTracked;	// Whether or not a projectile is currently attacking this enemy
 
-	public Enemy(State state, Control control) {
+	public Enemy(State state, Control control, PathRoute route) {
 		super(state, control);
 		
-		loc = control.getPath().convertToCoordinates(percentage);
+		this.route = route;
+		double length = route.getTotalLength();
+		routeScale = length > 0 ? control.getPathGraph().getRoute(0).getTotalLength()/length : 1.0;
+		
+		Point loc = route.convertToCoordinates(percentage);
+		x = loc.x;
+		y = loc.y;
+		prevX = x;
+		prevY = y;
+		nextX = x;
+		nextY = y;
 		
 		isVisible = true;
 		isExpired = false;
@@ -51,14 +75,28 @@ public abstract class Enemy extends GameObject {
 	 * 
 	 * @return x The x-coordinate of the enemy's center.
 	 */
-	public int getX() { return loc.x; }
+	public int getX() { return x; }
 	
 	/**
 	 * Gets the y-coordinate of the center of the enemy's sprite.
 	 * 
 	 * @return y The y-coordinate of the enemy's center.
 	 */
-	public int getY() { return loc.y; }
+	public int getY() { return y; }
+	
+	/**
+	 * Gets the x-coordinate of the enemy's center at the previous tick.
+	 * 
+	 * @return the x-coordinate of the enemy's center one tick ago.
+	 */
+	public int getPrevX() { return prevX; }
+	
+	/**
+	 * Gets the y-coordinate of the enemy's center at the previous tick.
+	 * 
+	 * @return the y-coordinate of the enemy's center one tick ago.
+	 */
+	public int getPrevY() { return prevY; }
 	
 	/**
 	 * Gets the width of the enemy's hitbox.
@@ -74,6 +112,13 @@ public abstract class Enemy extends GameObject {
 	 */
 	public int getHeight() { return height; }
 	
+	/**
+	 * Gets the route through the path graph that this object follows.
+	 * 
+	 * @return the route the object is traveling along.
+	 */
+	public PathRoute getRoute() { return route; }
+	
 	/**
 	 * Gets the percentage along the path that this object is.
 	 * 
@@ -82,11 +127,30 @@ public abstract class Enemy extends GameObject {
 	public double getPercentage() { return percentage; }
 	
 	/**
-	 * Gets the enemy's speed, in percentage per second.
+	 * Gets the percentage along the path that this object will be at once the current tick is committed.
+	 * 
+	 * @return a double representing the fractional percentage of the path the object will have traversed.
+	 */
+	public double getNextPercentage() { return nextPercentage; }
+	
+	/**
+	 * Sets the location this object will be at once the current tick is committed.
+	 * Enemy locations are found for every enemy at once after they have all updated; see ParallelUpdater.locateEnemies().
+	 * 
+	 * @param x The x-coordinate of the enemy's next location.
+	 * @param y The y-coordinate of the enemy's next location.
+	 */
+	public void setNextLocation(int x, int y) {
+		nextX = x;
+		nextY = y;
+	}
+	
+	/**
+	 * Gets the enemy's speed, in percentage of its own route per second.
 	 * 
 	 * @return a double representing the enemy's speed.
 	 */
-	public double getSpeed() { return speed; }
+	public double getSpeed() { return speed*routeScale; }
 	
 	/**
 	 * Gets this object's current health.
@@ -95,6 +159,13 @@ public abstract class Enemy extends GameObject {
 	 */
 	public int getHealth() { return health; }
 	
+	/**
+	 * Gets this object's maximum health.
+	 * 
+	 * @return the object's maximum health.
+	 */
+	public int getMaxHealth() { return maxHealth; }
+	
 	/**
 	 * Checks if the given x and y coordinates fall within this object's hitbox, defined by the size of its image sprite.
 	 * 
@@ -105,11 +176,11 @@ public abstract class Enemy extends GameObject {
 	public boolean isWithinHitbox(int x, int y) {
 		// Check if x-coordinate is within bounds
 		boolean xCheck;
-		xCheck = x <= this.loc.x + this.width/2 && x >= this.loc.x - this.width/2;
+		xCheck = x <= this.x + this.width/2 && x >= this.x - this.width/2;
 		
 		// Check if y-coordinate is within bounds
 		boolean yCheck;
-		yCheck = y <= this.loc.y + this.height/2 && y >= this.loc.y - this.height/2;
+		yCheck = y <= this.y + this.height/2 && y >= this.y - this.height/2;
 		
 		return xCheck && yCheck;
 	}
@@ -120,13 +191,9 @@ public abstract class Enemy extends GameObject {
 	 * @return true if any salt projectile has this enemy as a target. False otherwise.
 	 */
 	public boolean isTracked() {
-		for (GameObject go : state.getFrameObjects())
-			if (go instanceof SaltCrystal) {
-				SaltCrystal sc = (SaltCrystal) go;
-				
-				if (sc.getTarget() == this)
-					return true;
-			}
+		for (SaltCrystal sc : state.getProjectiles())
+			if (sc.getTarget() == this)
+				return true;
 		
 		// If we get here nothing has flagged as true
 		return false;
@@ -142,13 +209,9 @@ public abstract class Enemy extends GameObject {
 	public List<SaltCrystal> getTrackers() {
 		List<SaltCrystal> trackers = new ArrayList<SaltCrystal>();
 		
-		for (GameObject go : state.getFrameObjects())
-			if (go instanceof SaltCrystal) {
-				SaltCrystal sc = (SaltCrystal) go;
-				
-				if (sc.getTarget() == this)
-					trackers.add(sc);
-			}
+		for (SaltCrystal sc : state.getProjectiles())
+			if (sc.getTarget() == this)
+				trackers.add(sc);
 		
 		if (trackers.isEmpty()) return null;
 		else return trackers;
@@ -166,14 +229,14 @@ public abstract class Enemy extends GameObject {
 	
 	/**
 	 * Awards the user a kill for this enemy.
-	 * Gives the user an increase in money and score, generates a corpse, and removes the object from the game list.
+	 * Gives the user an increase in money and score, generates a corpse, and removes the object from the game list when
+	 * the tick is committed.
 	 */
 	public void kill() {
-		isVisible = false;
-		isExpired = true;
+		nextExpired = true;
 		
-		state.creditUser(monetaryValue);
-		state.increaseScore(scoreValue);
+		state.getCommands().creditUser(monetaryValue);
+		state.getCommands().increaseScore(scoreValue);
 		
 		addCorpse();
 	}
@@ -190,6 +253,8 @@ public abstract class Enemy extends GameObject {
 	/**
 	 * The update override function for the enemy class.
 	 * Checks if the enemy is dead--killing it if so--and otherwise has the enemy travel further along the path based on its speed.
+	 * The new location is only staged here so that other objects keep seeing where the enemy was at the last tick.
+	 * Only the new percentage is worked out here; the location at that percentage is set later by setNextLocation().
 	 */
 	@Override
 	public void update(double elapsedTime) {
@@ -200,42 +265,33 @@ public abstract class Enemy extends GameObject {
 			return;
 		}
 		
-		// Update enemy travel distance and location
-		percentage += speed*elapsedTime;
-		loc = control.getPath().convertToCoordinates(percentage);
+		// Work out the enemy's new travel distance
+		nextPercentage = percentage + getSpeed()*elapsedTime;
 
 		// Check if enemy has reached the end of the path
-		if (percentage >= 1.0) {
+		if (nextPercentage >= 1.0) {
 			// If enemy reaches end of path, have it damage the user and despawn
-			state.damageUser(attackDamage);
-			isExpired = true;
-			isVisible = false;
+			state.getCommands().damageUser(attackDamage);
+			nextExpired = true;
 		}
 	}
 	
-	
 	/**
-	 * Draws the enemy at the given location, adjusting for the height and the width of the image to keep the sprite center-justified.
-	 * Also draws a healthbar above the enemy that adjusts to the enemy's current health value.
+	 * The commit override function for the enemy class.
+	 * Moves the enemy to the location staged by update(), remembering where it was for interpolation, and despawns it
+	 * if it was killed or reached the end of the path.
 	 */
 	@Override
-	public void draw(Graphics g) {
-		// Draws the image at the given point about its center
-		g.drawImage(image, loc.x - width/2, loc.y - height/2, null);
+	public void commit() {
+		prevX = x;
+		prevY = y;
+		x = nextX;
+		y = nextY;
+		percentage = nextPercentage;
 		
-		// Draw the enemy's healthbar
-		// Background
-		g.setColor(Color.BLACK);
-		g.fillRect(loc.x - width/2, loc.y - height/2 - 8, width, 8);
-		
-		// Health fill
-		g.setColor(Color.RED);
-		g.fillRect(loc.x - width/2 + 1, loc.y - height/2 - 7, ((width-2)*health)/maxHealth, 6);
-		
-		// Dividers
-		g.setColor(Color.BLACK);
-		for (int i = 1; i < maxHealth; i++) {
-			g.fillRect(loc.x - width/2 + width*i/maxHealth, loc.y - height/2 - 8, 2, 8);
+		if (nextExpired) {
+			isExpired = true;
+			isVisible = false;
 		}
 	}
 }
@@ -0,0 +1,63 @@
+/**
+ * EnemyRenderer class, an implementation of the Renderer interface for Enemy objects.
+ * Draws the enemy's sprite about its center, along with a healthbar above it.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+public class EnemyRenderer implements Renderer<Enemy> {
+	private State state;
+	private BufferedImage image;
+	
+	/**
+	 * Creates a renderer that draws enemies with the given sprite.
+	 * 
+	 * @param state The state object, used to interpolate between ticks.
+	 * @param image The enemy's sprite.
+	 */
+	public EnemyRenderer(State state, BufferedImage image) {
+		this.state = state;
+		this.image = image;
+	}
+	
+	/**
+	 * Draws the enemy at its location, adjusting for the height and the width of the image to keep the sprite center-justified.
+	 * Also draws a healthbar above the enemy that adjusts to the enemy's current health value.
+	 * The drawn location is interpolated between the previous and current tick.
+	 */
+	@Override
+	public void draw(Graphics g, Enemy e) {
+		// Interpolate between the last two tick locations
+		double alpha = state.getRenderAlpha();
+		int x = (int) (e.getPrevX() + (e.getX() - e.getPrevX())*alpha);
+		int y = (int) (e.getPrevY() + (e.getY() - e.getPrevY())*alpha);
+		
+		int width = e.getWidth();
+		int height = e.getHeight();
+		int maxHealth = e.getMaxHealth();
+		
+		// Draws the image at the given point about its center
+		g.drawImage(image, x - width/2, y - height/2, null);
+		
+		// Draw the enemy's healthbar
+		// Background
+		g.setColor(Color.BLACK);
+		g.fillRect(x - width/2, y - height/2 - 8, width, 8);
+		
+		// Health fill
+		g.setColor(Color.RED);
+		g.fillRect(x - width/2 + 1, y - height/2 - 7, ((width-2)*e.getHealth())/maxHealth, 6);
+		
+		// Dividers
+		g.setColor(Color.BLACK);
+		for (int i = 1; i < maxHealth; i++) {
+			g.fillRect(x - width/2 + width*i/maxHealth, y - height/2 - 8, 2, 8);
+		}
+	}
+}
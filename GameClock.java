@@ -0,0 +1,19 @@
+/**
+ * Interface for the clocks that the Tower Defense game reads its time from.
+ * State owns a single GameClock, and every time-dependent game object reads the time through it
+ * rather than asking the system for the current time.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+public interface GameClock {
+	/**
+	 * Gets the current time of this clock.
+	 * Only differences between two readings are meaningful; the starting time is arbitrary.
+	 * 
+	 * @return the current time, in seconds.
+	 */
+	public double getTime();
+}
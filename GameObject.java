@@ -2,7 +2,10 @@
  * Abstract super-class for all game objects in the Tower Defense game.
  * Contains fields for the objects' visibility and expiration status.
  * Also contains fields for the control and state objects.
- * Contains an update and draw method, as well as accessors for the fields and a superconstructor.
+ * Contains an update method, as well as accessors for the fields and a superconstructor.
+ * Each tick is run in two phases: every object's update() runs against the state left by the last tick, then
+ * every object's commit() publishes its new state, so no object sees another object's changes from the same tick.
+ * Game objects only hold simulation state; they are drawn by the Renderer that View registers for their class.
  * Implements the Comparable interface to allow GameObjects to be drawn in the correct order.
  * 
  * @author Tyler C. Wilcox
@@ -10,10 +13,6 @@
  */
 package game;
 
-import java.awt.Graphics;
-import java.awt.image.BufferedImage;
-
-
 abstract public class GameObject implements Comparable<GameObject>{
 	
     protected boolean isVisible; 
@@ -21,7 +20,6 @@ abstract public class GameObject implements Comparable<GameObject>{
     protected Control control;
     protected State state;
     public int drawLevel;
-    BufferedImage image;
     
     /** 
      * Abstract superconstructor
@@ -53,11 +51,11 @@ abstract public class GameObject implements Comparable<GameObject>{
     abstract public void update (double elapsedTime);
     
     /**
-     * Draws the object to the JPanel using its relevant sprite(s).
-     * 
-     * @param g Graphics object used to draw the object
+     * Publishes the state computed by this object's last update, once every object has been updated.
+     * Objects that other objects read during update() should stage their changes in update() and make them visible here.
+     * Does nothing by default.
      */
-    abstract public void draw (Graphics g);
+    public void commit() {}
     
     /**
      * Compares two objects based on their draw level.
@@ -1,6 +1,6 @@
 /**
  * GameOver class, a subclass of GameObject.
- * Implements GameObject update() and draw() methods.
+ * Implements the GameObject update() method.
  * Displays the game over screen and suspends game-loop operation, preventing further updates.
  * 
  * @author Tyler C. Wilcox
@@ -8,9 +8,6 @@
  */
 package game;
 
-import java.awt.Graphics;
-import java.awt.image.BufferedImage;
-
 public class GameOver extends GameObject {
 	
 	/**
@@ -31,15 +28,4 @@ public class GameOver extends GameObject {
 	 */
 	@Override
 	public void update(double elapsedTime) {}
-	
-	/**
-	 * Draws the "Game Over" sprite on the top level.
-	 */
-	@Override
-	public void draw(Graphics g) {
-		BufferedImage image = control.getImage("game_over.png");
-		
-		g.drawImage(image, 0, 0, null);
-	}
-
 }
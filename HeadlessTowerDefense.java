@@ -0,0 +1,154 @@
+/**
+ * Headless entry point to the Tower Defense game.
+ * Runs the game without a window as fast as possible, placing towers from a script instead of the mouse.
+ * Prints the final score, health, and wave reached, along with how many ticks were simulated per second.
+ * 
+ * Usage: HeadlessTowerDefense [script file] [max game seconds]
+ * If no script file is given, resources/tower_script.txt is used.
+ * Each script line holds a game time (seconds), a tower type ("basic" or "smart"), and the x and y location
+ * to place it at. Lines starting with # are ignored.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+public class HeadlessTowerDefense {
+	// Script fields - one entry per scripted tower, in the order they appear in the script
+	private List<Double> placeTimes = new ArrayList<Double>();
+	private List<String> placeTypes = new ArrayList<String>();
+	private List<Integer> placeXs = new ArrayList<Integer>();
+	private List<Integer> placeYs = new ArrayList<Integer>();
+	private int nextPlacement = 0;
+	
+	/**
+	 * Application entry point.
+	 * 
+	 * @param args Optional script file name, followed by the optional maximum number of game seconds to simulate.
+	 */
+	public static void main(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+		
+		HeadlessTowerDefense game = new HeadlessTowerDefense();
+		
+		// Load the tower script from the given file, or from the resource folder by default
+		try {
+			if (args.length > 0)
+				game.loadScript(new Scanner(new File(args[0])));
+			else {
+				ClassLoader myLoader = HeadlessTowerDefense.class.getClassLoader();
+				InputStream scriptStream = myLoader.getResourceAsStream("resources/tower_script.txt");
+				if (scriptStream == null) {
+					System.err.println("resources/tower_script.txt not found on the classpath");
+					System.err.println("Usage: HeadlessTowerDefense [script file] [max game seconds]");
+					System.exit(1);
+				}
+				game.loadScript(new Scanner(scriptStream));
+			}
+		}
+		catch (IOException e) {
+			System.err.println("Unable to load tower script " + args[0]);
+			System.exit(1);
+		}
+		
+		double maxTime = 600;
+		if (args.length > 1)
+			maxTime = Double.parseDouble(args[1]);
+		
+		game.run(maxTime);
+	}
+	
+	/**
+	 * Reads every tower placement from the given script.
+	 * 
+	 * @param input A scanner linked to the tower script.
+	 */
+	private void loadScript(Scanner input) {
+		while (input.hasNextLine()) {
+			String line = input.nextLine().trim();
+			if (line.isEmpty() || line.startsWith("#"))
+				continue;
+			
+			String[] tokens = line.split("\\s+");
+			placeTimes.add(Double.parseDouble(tokens[0]));
+			placeTypes.add(tokens[1]);
+			placeXs.add(Integer.parseInt(tokens[2]));
+			placeYs.add(Integer.parseInt(tokens[3]));
+		}
+		input.close();
+	}
+	
+	/**
+	 * Runs the game until it is over or the given amount of game time has been simulated, then prints the results.
+	 * 
+	 * @param maxTime The most game time to simulate, in seconds.
+	 */
+	private void run(double maxTime) {
+		Control control = new Control(false);
+		State state = control.getState();
+		
+		long ticks = 0;
+		long startTime = System.nanoTime();
+		
+		while (!state.isGameOver() && state.getTotalTime() < maxTime) {
+			placeTowers(control, state);
+			control.tick();
+			ticks++;
+		}
+		
+		double realTime = (System.nanoTime() - startTime)/1e9;
+		
+		System.out.println("Score: " + state.getScore());
+		System.out.println("Health: " + state.getHealth());
+		System.out.println("Wave reached: " + control.getWaveNumber());
+		System.out.printf("Simulated %d ticks (%.1f game seconds) in %.3f real seconds: %.0f ticks per second%n",
+				ticks, state.getTotalTime(), realTime, ticks/realTime);
+	}
+	
+	/**
+	 * Places the next scripted tower if its time has come.
+	 * Only one tower is placed per tick, so that each placement sees the towers placed before it.
+	 * 
+	 * @param control The control object running the game.
+	 * @param state The state of the game being run.
+	 */
+	private void placeTowers(Control control, State state) {
+		if (nextPlacement >= placeTimes.size() || placeTimes.get(nextPlacement) > state.getTotalTime())
+			return;
+		
+		String type = placeTypes.get(nextPlacement);
+		int x = placeXs.get(nextPlacement);
+		int y = placeYs.get(nextPlacement);
+		nextPlacement++;
+		
+		Tower t;
+		if (type.equals("basic"))
+			t = new DumbTower(state, control);
+		else if (type.equals("smart"))
+			t = new SmartTower(state, control);
+		else {
+			System.err.println("Unknown tower type in script: " + type);
+			return;
+		}
+		
+		// The tower charges the user when it is built, so skip it if the user couldn't afford it
+		if (t.isExpired()) {
+			System.err.println("Could not afford " + type + " tower at " + x + ", " + y);
+			return;
+		}
+		
+		if (t.placeAt(x, y))
+			state.addGameObject(t);
+		else {
+			t.refundUser();
+			System.err.println("Invalid location for " + type + " tower at " + x + ", " + y);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/**
+ * LocateBenchmark class for the Tower Defense game.
+ * Times ParallelUpdater.locateEnemies() on path graphs with more and more routes, each with its own spawn leg merging
+ * into one shared trunk, the way a multi-lane map does. The same number of enemies is spread evenly across the routes
+ * every time, so the time per enemy should stay flat as routes are added.
+ * Needs the resources folder on the classpath so a headless game can be set up.
+ *
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import path.Path;
+import path.PathBenchmark;
+import path.PathGraph;
+
+public class LocateBenchmark {
+	private static final int ENEMIES = 5000;	// About a late wave of enemies
+	private static final int LOCATES = 2000;	// Calls timed per graph
+
+	// Sink for results so the lookups can't be optimized away
+	private static long checksum;
+
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args Unused.
+	 */
+	public static void main(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+
+		Control control = new Control(false);
+		State state = control.getState();
+
+		System.out.printf("%10s %10s %16s%n", "Routes", "Enemies", "ns per enemy");
+		for (int routes = 1; routes <= 1024; routes *= 4)
+			benchmark(state, control, routes);
+
+		System.out.println("Checksum: " + checksum);
+	}
+
+	/**
+	 * Times locating a crowd of enemies spread across the routes of a graph with the given number of routes.
+	 *
+	 * @param state The game's state.
+	 * @param control The game's control.
+	 * @param routes Number of spawn legs, and so of routes.
+	 */
+	private static void benchmark(State state, Control control, int routes) {
+		Path trunk = PathBenchmark.generatePath(10000, 42);
+		PathGraph graph = new PathGraph();
+		int trunkLeg = graph.addLeg(trunk);
+		Random rand = new Random(routes);
+		for (int r = 0; r < routes; r++) {
+			Path spawn = new Path();
+			spawn.add(rand.nextInt(600), rand.nextInt(600));
+			spawn.add(trunk.getX(0), trunk.getY(0));
+			graph.addRoute(graph.addLeg(spawn), trunkLeg);
+		}
+		graph.buildLookupTables(1.0);
+		ParallelUpdater updater = new ParallelUpdater(state, graph, 1);
+
+		// Spread the enemies along the routes in order of how far along they are, as State keeps them
+		List<Enemy> enemies = new ArrayList<Enemy>(ENEMIES);
+		for (int i = 0; i < ENEMIES; i++) {
+			Enemy e = new Snail(state, control, graph.getRoute(i % routes));
+			e.percentage = i/(double) ENEMIES;
+			e.update(0);
+			enemies.add(e);
+		}
+
+		// Warm up, then keep the last run's time
+		double time = 0;
+		for (int run = 0; run < 5; run++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < LOCATES; i++)
+				updater.locateEnemies(enemies);
+			time = (System.nanoTime() - start)/(double) LOCATES/ENEMIES;
+
+			for (int i = 0; i < ENEMIES; i += 97) {
+				enemies.get(i).commit();
+				checksum += enemies.get(i).getX();
+			}
+		}
+
+		System.out.printf("%10d %10d %16.1f%n", routes, ENEMIES, time);
+	}
+}
@@ -1,15 +1,9 @@
 package game;
 
-import java.awt.Color;
-import java.awt.Font;
-import java.awt.Graphics;
-
 public class MenuButton extends GameObject implements Clickable {
 	// Size fields
-	private int outsideWidth;
-	private int outsideHeight;
-	private int insideWidth;
-	private int insideHeight;
+	private int width;
+	private int height;
 	
 	// Location fields
 	private int x;
@@ -32,17 +26,15 @@ public class MenuButton extends GameObject implements Clickable {
 		buttonText = text;
 		
 		// Initialize parameters
-		outsideWidth = 120;
-		outsideHeight = 60;
-		insideWidth = 110;
-		insideHeight = 50;
+		width = 120;
+		height = 60;
 		
 		this.x = x;
 		this.y = y;
-		xmin = x - outsideWidth/2;
-		xmax = x + outsideWidth/2;
+		xmin = x - width/2;
+		xmax = x + width/2;
 		ymin = y;
-		ymax = y + outsideHeight;
+		ymax = y + height;
 		
 		isVisible = true;
 		isExpired = false;
@@ -64,37 +56,44 @@ public class MenuButton extends GameObject implements Clickable {
 	 * @return button text string.
 	 */
 	public String getText() { return buttonText; }
+	/**
+	 * Accessor method for the cost of the tower the button buys.
+	 * @return tower cost.
+	 */
+	public int getCost() { return cost; }
+	/**
+	 * Gets the x-coordinate of the center of the button.
+	 * @return the button's center x-coordinate.
+	 */
+	public int getX() { return x; }
+	/**
+	 * Gets the y-coordinate of the top of the button.
+	 * @return the button's top y-coordinate.
+	 */
+	public int getY() { return y; }
+	/**
+	 * Gets the width of the button's clickable area.
+	 * @return the button's width.
+	 */
+	public int getWidth() { return width; }
+	/**
+	 * Gets the height of the button's clickable area.
+	 * @return the button's height.
+	 */
+	public int getHeight() { return height; }
 	
 	@Override
 	public void update(double elapsedTime) {
 		// If a tower is queued to add, add the type that corresponds to the button that summoned it
 		if (queueTower) {
 			if (type.equals("basic"))
-				state.addGameObject(new DumbTower(state, control));
+				state.getCommands().addGameObject(new DumbTower(state, control));
 			else if (type.equals("smart"))
-				state.addGameObject(new SmartTower(state, control));
+				state.getCommands().addGameObject(new SmartTower(state, control));
 			
 			queueTower = false;
 		}
 	}
-
-	@Override
-	public void draw(Graphics g) {
-		// Draw button with gray border and black interior
-		g.setColor(Color.GRAY);
-		g.fillRoundRect(x - outsideWidth/2, y, outsideWidth, outsideHeight, 20, 20);
-		
-		g.setColor(Color.WHITE);
-		g.fillRoundRect(x - insideWidth/2, y + (outsideHeight - insideHeight)/2, insideWidth, insideHeight, 16, 16);
-		
-		// Draw the button text
-		g.setColor(Color.BLACK);
-		g.setFont(new Font("Arial", Font.BOLD, 14));
-		g.drawString(buttonText, x - insideWidth/2 + 1, y + insideHeight/2);
-		
-		g.setFont(new Font("Arial", Font.BOLD, 11));
-		g.drawString("Cost: " + cost, x - insideWidth/2 + 25, y + insideHeight/2 + 20);
-	}
 	
 	/**
 	 * Implements the consumable interface consumeClick() method.
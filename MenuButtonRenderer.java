@@ -0,0 +1,44 @@
+/**
+ * MenuButtonRenderer class, an implementation of the Renderer interface for MenuButton objects.
+ * Draws the tower button with its text and the cost of the tower.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+
+public class MenuButtonRenderer implements Renderer<MenuButton> {
+	private int border = 5; // Width of the gray border around the button
+	
+	/**
+	 * Draws the button with a gray border and white interior, followed by its text and cost.
+	 */
+	@Override
+	public void draw(Graphics g, MenuButton b) {
+		int x = b.getX();
+		int y = b.getY();
+		int outsideWidth = b.getWidth();
+		int outsideHeight = b.getHeight();
+		int insideWidth = outsideWidth - 2*border;
+		int insideHeight = outsideHeight - 2*border;
+		
+		// Draw button with gray border and white interior
+		g.setColor(Color.GRAY);
+		g.fillRoundRect(x - outsideWidth/2, y, outsideWidth, outsideHeight, 20, 20);
+		
+		g.setColor(Color.WHITE);
+		g.fillRoundRect(x - insideWidth/2, y + (outsideHeight - insideHeight)/2, insideWidth, insideHeight, 16, 16);
+		
+		// Draw the button text
+		g.setColor(Color.BLACK);
+		g.setFont(new Font("Arial", Font.BOLD, 14));
+		g.drawString(b.getText(), x - insideWidth/2 + 1, y + insideHeight/2);
+		
+		g.setFont(new Font("Arial", Font.BOLD, 11));
+		g.drawString("Cost: " + b.getCost(), x - insideWidth/2 + 25, y + insideHeight/2 + 20);
+	}
+}
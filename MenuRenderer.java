@@ -0,0 +1,65 @@
+/**
+ * MenuRenderer class, an implementation of the Renderer interface for the game Menu.
+ * Draws the menu on the right side of the screen with the game's title, the user's stats, and whether the game is paused.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+
+public class MenuRenderer implements Renderer<Menu> {
+	private State state;
+	private Control control;
+	
+	/**
+	 * Creates a renderer for the game menu.
+	 * 
+	 * @param state The state object holding the user's stats.
+	 * @param control The control object running the game, used to check if it is paused.
+	 */
+	public MenuRenderer(State state, Control control) {
+		this.state = state;
+		this.control = control;
+	}
+	
+	/**
+	 * Draws the game menu on the right side of the screen.
+	 * Draws the user's health, score, and money fields and the title of the game.
+	 */
+	@Override
+	public void draw(Graphics g, Menu m) {
+		// Draw background
+		g.setColor(Color.BLACK);
+		g.fillRect(600, 0, 200, 600);
+		
+		// Draw text items
+		g.setColor(Color.GREEN);
+		g.setFont(new Font("Arial", Font.BOLD, 20));
+		g.drawString("WELCOME TO", 630, 50);
+		g.drawString(m.getTitle(), 605, 80);
+		
+		// User Score
+		g.setColor(Color.WHITE);
+		g.setFont(new Font("Arial", Font.BOLD, 16));
+		g.drawString("Score: " + state.getScore(), 620, 160);
+		
+		// User Health
+		g.setColor(Color.RED);
+		g.drawString("Health: " + state.getHealth(), 620, 200);
+		
+		// User Money
+		g.setColor(Color.YELLOW);
+		g.drawString("Money: " + state.getMoney(), 620, 240);
+		
+		// Pause notice
+		g.setColor(Color.WHITE);
+		if (control.isPaused())
+			g.drawString("PAUSED - press P", 620, 300);
+		else
+			g.drawString("Press P to pause", 620, 300);
+	}
+}
@@ -0,0 +1,224 @@
+/**
+ * ParallelUpdater class for the Tower Defense game.
+ * Runs the update phase of each tick, splitting the enemies, towers, projectiles, and corpses into chunks that are
+ * updated across a ForkJoin pool. Each chunk records its side effects into its own CommandBuffer, and once every
+ * object has been updated the buffers are applied to the state in a fixed order, so the outcome of a tick doesn't
+ * depend on how many threads ran it or which thread finished first.
+ * 
+ * Each kind of object is updated in its own phase (enemies, then towers, then projectiles, then corpses), and UI
+ * objects are updated on the calling thread at the end. After the enemies update, all of their new locations are found
+ * in one sweep along each route of the path graph, using the enemies' order along their routes. Objects only read the
+ * state committed at the last tick, so the order of the phases doesn't change the outcome. Once every object has been
+ * updated they are all committed, and only then are the recorded side effects applied.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import path.PathGraph;
+
+public class ParallelUpdater {
+	private State state;
+	private PathGraph pathGraph;
+	private ForkJoinPool pool;
+	private int chunkSize = 64;	// Most objects updated by a single task
+	
+	// One command buffer per chunk, reused every tick. Applied in index order once the phase is over.
+	private List<CommandBuffer> buffers;
+	private int buffersUsed;
+	
+	// Enemy location arrays, reused every tick and grown when there are more enemies than they fit
+	private int[] routeEnds;		// routeEnds[r] is the end of route r's enemies in routeEnemies, and the start of route r+1's
+	private int[] routeEnemies;		// Indices of the enemies, grouped by route
+	private double[] percentages;
+	private int[] locationsX;
+	private int[] locationsY;
+	
+	/**
+	 * Creates an updater for the given state that runs on its own ForkJoin pool.
+	 * 
+	 * @param state The state whose objects are to be updated.
+	 * @param pathGraph The path graph the enemies follow.
+	 * @param parallelism The number of threads to update objects on.
+	 */
+	public ParallelUpdater(State state, PathGraph pathGraph, int parallelism) {
+		this.state = state;
+		this.pathGraph = pathGraph;
+		routeEnds = new int[pathGraph.getRouteCount()];
+		routeEnemies = new int[64];
+		percentages = new double[64];
+		locationsX = new int[64];
+		locationsY = new int[64];
+		pool = new ForkJoinPool(parallelism);
+		buffers = new ArrayList<CommandBuffer>();
+	}
+	
+	/**
+	 * Updates every game object in the state, commits them, then applies all of their recorded side effects.
+	 * 
+	 * @param elapsedTime Time elapsed since the last tick.
+	 */
+	public void update(double elapsedTime) {
+		buffersUsed = 0;
+		
+		updateAll(state.getEnemies(), elapsedTime);
+		locateEnemies(state.getEnemies());
+		updateAll(state.getTowers(), elapsedTime);
+		updateAll(state.getProjectiles(), elapsedTime);
+		updateAll(state.getCorpses(), elapsedTime);
+		
+		// UI objects are few and may build new towers, which charges the user, so they stay on this thread
+		for (GameObject go : state.getUIObjects())
+			go.update(elapsedTime);
+		
+		// Publish the state computed by every object
+		commitAll(state.getEnemies());
+		commitAll(state.getTowers());
+		commitAll(state.getProjectiles());
+		commitAll(state.getCorpses());
+		commitAll(state.getUIObjects());
+		
+		// Apply the side effects in a fixed order: chunk buffers first, then anything recorded on this thread
+		for (int i = 0; i < buffersUsed; i++)
+			buffers.get(i).apply(state);
+		state.getCommands().apply(state);
+	}
+	
+	/**
+	 * Finds the next location of every enemy with a single sweep along each route and stages it with Enemy.setNextLocation().
+	 * The enemies are first grouped by route in one pass, so the cost doesn't grow with the number of routes. They should
+	 * be in order of how far along their routes they are, as State keeps them, so each group stays in order and the sweep
+	 * only moves forward.
+	 * 
+	 * @param enemies The enemies to be located, after they have updated.
+	 */
+	public void locateEnemies(List<Enemy> enemies) {
+		int size = enemies.size();
+		if (size > percentages.length) {
+			int capacity = Math.max(size, percentages.length*2);
+			routeEnemies = new int[capacity];
+			percentages = new double[capacity];
+			locationsX = new int[capacity];
+			locationsY = new int[capacity];
+		}
+		
+		// Count the enemies on each route, then turn the counts into where each route's group starts
+		int routes = pathGraph.getRouteCount();
+		Arrays.fill(routeEnds, 0);
+		for (int i = 0; i < size; i++)
+			routeEnds[enemies.get(i).getRoute().getIndex()]++;
+		int start = 0;
+		for (int r = 0; r < routes; r++) {
+			int count = routeEnds[r];
+			routeEnds[r] = start;
+			start += count;
+		}
+		
+		// Drop each enemy into its route's group, keeping their order, which moves each route's entry to the end of its group
+		for (int i = 0; i < size; i++)
+			routeEnemies[routeEnds[enemies.get(i).getRoute().getIndex()]++] = i;
+		
+		start = 0;
+		for (int r = 0; r < routes; r++) {
+			int count = routeEnds[r] - start;
+			if (count > 0) {
+				for (int k = 0; k < count; k++)
+					percentages[k] = enemies.get(routeEnemies[start + k]).getNextPercentage();
+				
+				pathGraph.getRoute(r).convertToCoordinates(percentages, locationsX, locationsY, count);
+				
+				for (int k = 0; k < count; k++)
+					enemies.get(routeEnemies[start + k]).setNextLocation(locationsX[k], locationsY[k]);
+			}
+			start = routeEnds[r];
+		}
+	}
+	
+	/**
+	 * Updates every object in the given list, splitting it into chunks across the pool if it is large enough.
+	 * 
+	 * @param list The objects to be updated.
+	 * @param elapsedTime Time elapsed since the last tick.
+	 */
+	private void updateAll(List<? extends GameObject> list, double elapsedTime) {
+		int size = list.size();
+		if (size == 0)
+			return;
+		
+		// Make sure every chunk has a buffer before any task starts
+		int chunks = (size + chunkSize - 1)/chunkSize;
+		while (buffers.size() < buffersUsed + chunks)
+			buffers.add(new CommandBuffer());
+		
+		UpdateTask task = new UpdateTask(list, 0, size, buffersUsed, elapsedTime);
+		if (chunks == 1)
+			task.compute(); // Not worth handing a single chunk to the pool
+		else
+			pool.invoke(task);
+		
+		buffersUsed += chunks;
+	}
+	
+	/**
+	 * Commits every object in the given list.
+	 * 
+	 * @param list The objects to be committed.
+	 */
+	private void commitAll(List<? extends GameObject> list) {
+		for (int i = 0; i < list.size(); i++)
+			list.get(i).commit();
+	}
+	
+	/**
+	 * Task that updates a range of a list, splitting it in half along chunk boundaries until only one chunk remains.
+	 * Every chunk always records into the same buffer, however the range was split.
+	 */
+	private class UpdateTask extends RecursiveAction {
+		private static final long serialVersionUID = 0;
+		
+		private List<? extends GameObject> list;
+		private int from;
+		private int to;
+		private int firstBuffer;	// Index of the buffer for the chunk starting at from
+		private double elapsedTime;
+		
+		public UpdateTask(List<? extends GameObject> list, int from, int to, int firstBuffer, double elapsedTime) {
+			this.list = list;
+			this.from = from;
+			this.to = to;
+			this.firstBuffer = firstBuffer;
+			this.elapsedTime = elapsedTime;
+		}
+		
+		@Override
+		protected void compute() {
+			int chunks = (to - from + chunkSize - 1)/chunkSize;
+			
+			// Split the range in half, keeping the split on a chunk boundary
+			if (chunks > 1) {
+				int half = chunks/2;
+				int mid = from + half*chunkSize;
+				invokeAll(new UpdateTask(list, from, mid, firstBuffer, elapsedTime),
+						new UpdateTask(list, mid, to, firstBuffer + half, elapsedTime));
+				return;
+			}
+			
+			// Single chunk - update each object, recording side effects into this chunk's buffer
+			state.setActiveCommands(buffers.get(firstBuffer));
+			try {
+				for (int i = from; i < to; i++)
+					list.get(i).update(elapsedTime);
+			}
+			finally {
+				state.setActiveCommands(null);
+			}
+		}
+	}
+}
@@ -2,6 +2,11 @@
  * Path class for creation of new Path objects.
  * Used in conjunction with PathEditor to create paths for future checkpoints.
  * Contains fields to hold the list of points, the total length of the path, and a list of the length of each segment of the path.
+ * Points and lengths are stored in primitive arrays, which grow as points are added and may have spare room past the last point.
+ * Also keeps the cumulative length of the path up to each point, so the segment at any distance can be found by binary search.
+ * Can optionally build a lookup table of positions sampled at even distances along the path, for constant time lookups.
+ * Smooth paths can be built from a few control points with fromControlPoints(), which samples a Catmull-Rom spline
+ * into an ordinary path with points spaced evenly along the curve.
  * 
  * @author Tyler C. Wilcox
  * @version 04 November, 2022
@@ -10,6 +15,7 @@
 package path;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Scanner;
 import java.awt.Graphics;
 import java.awt.Point;
@@ -19,22 +25,33 @@ import java.awt.Point;
  */
 public class Path {
 	//Fields
-	private ArrayList<Point> points;
+	private int[] xs;			// xs[i] and ys[i] are the coordinates of point i
+	private int[] ys;
+	private int pointCount;
 	private double totalLength;
-	private ArrayList<Double> segLengths;
+	private double[] segLengths; // segLengths[i] is the length of the segment from point i to point i+1
+	private double[] cumLengths; // cumLengths[i] is the length of the path from point 0 to point i
+	
+	//Lookup table fields - positions sampled every tableSpacing pixels along the path. Null if there is no table.
+	private double tableSpacing;
+	private double[] tableX;
+	private double[] tableY;
+	private int tableCount;		// Number of samples in the table. The arrays may have spare room past the last sample.
 	
 	/**
 	 * Empty constructor that calls no arguments.
 	 * Creates an empty Path object.
 	 */
 	public Path() {
-		points = new ArrayList<Point>(0);
-		segLengths = new ArrayList<Double>(0);
+		xs = new int[8];
+		ys = new int[8];
+		segLengths = new double[8];
+		cumLengths = new double[8];
 	}
 	
 	/**
 	 * Overloaded constructor that calls a scanner to load in a saved path.
-	 * The scanner iterates over the information it receives and stores that information in the points ArrayList.
+	 * The scanner iterates over the information it receives and stores that information in the point arrays.
 	 * 
 	 * @param input A scanner object that can receive integer information to store in points.
 	 */
@@ -43,35 +60,40 @@ public class Path {
 		int nextX;
 		int nextY;
 		
-		//Creates a new points ArrayList with capacity equal to the first integer passed to the scanner.
-		points = new ArrayList<Point>(numPoints);
-		//Create a segLength list of length equal to number of segments
-		segLengths = new ArrayList<Double>(numPoints - 1);
+		//Creates new point arrays with length equal to the first integer passed to the scanner.
+		xs = new int[Math.max(1, numPoints)];
+		ys = new int[Math.max(1, numPoints)];
+		//Create a segLength array of length equal to number of segments
+		segLengths = new double[Math.max(1, numPoints - 1)];
 		
-		//Scans through two integers at a time, storing them as the x and y values of a new point at the end of the points ArrayList.
+		//Scans through two integers at a time, storing them as the x and y values of the next point.
 		for (int i = 0; i < numPoints; i++) {
 			nextX = input.nextInt();
 			nextY = input.nextInt();
 			
-			points.add(i, new Point(nextX,nextY));
+			xs[i] = nextX;
+			ys[i] = nextY;
 		}
+		pointCount = numPoints;
 		
 		//Calculate the total length and the length of each segment
 		totalLength = this.getLength(0, this.getPointCount() - 1);
 		
 		for (int i = 0; i < this.getPointCount()-1; i++) {
-			segLengths.add(i,this.getLength(i,i+1));
+			segLengths[i] = this.getLength(i,i+1);
 		}
+		
+		buildCumLengths();
 	}
 	
 	//Accessors
 	/**
-	 * Gets the number of Point objects saved in the points array.
+	 * Gets the number of points saved in the path.
 	 * 
-	 * @return an integer with the size of the points array.
+	 * @return an integer with the number of points.
 	 */
 	public int getPointCount() {
-		return points.size();
+		return pointCount;
 	}
 	/**
 	 * Gets the x value of the point at the given array index.
@@ -81,7 +103,7 @@ public class Path {
 	 * @return returns the x value of the point object at the given index.
 	 */
 	public int getX(int n) {
-		return points.get(n).x;
+		return xs[n];
 	}
 	/**
 	 * Gets the y value of the point at the given array index.
@@ -91,16 +113,31 @@ public class Path {
 	 * @return returns the y value of the point object at the given index.
 	 */
 	public int getY(int n) {
-		return points.get(n).y;
+		return ys[n];
 	}
 	
 	/**
-	 * Gets the list of segment lengths
+	 * Gets a list of the segment lengths.
+	 * The list is a copy built from the segment length array, so changes to it don't affect the path.
 	 * 
-	 * @return The segment lengths list field
+	 * @return A new list of the segment lengths
 	 */
 	public ArrayList<Double> getSegLengths() {
-		return segLengths;
+		ArrayList<Double> lengths = new ArrayList<Double>(pointCount);
+		for (int i = 0; i < pointCount - 1; i++)
+			lengths.add(segLengths[i]);
+		
+		return lengths;
+	}
+	
+	/**
+	 * Gets the length of a single segment of the path.
+	 * 
+	 * @param n The index of the segment, which runs from point n to point n+1.
+	 * @return The length of the segment
+	 */
+	public double getSegLength(int n) {
+		return segLengths[n];
 	}
 	
 	/**
@@ -111,20 +148,55 @@ public class Path {
 	public double getTotalLength() {
 		return totalLength;
 	}
+	
+	/**
+	 * Gets the length of the path from the start point to the point at the given index.
+	 * 
+	 * @param n The index of the point.
+	 * @return the distance along the path to point n
+	 */
+	public double getDistanceTo(int n) {
+		return cumLengths[n];
+	}
 
 	//Setters
 	/**
-	 * Appends a new point object to the end of the points ArrayList with the given x and y values.
-	 * Updates the segment lengths array and the total path length with the length of the new segment.
+	 * Appends a new point to the end of the path with the given x and y values.
+	 * Updates the segment lengths array and the total path length with the length of the new segment, in constant time.
+	 * If there is a lookup table, only the samples past the old end of the path are added to it, so building a path point
+	 * by point costs the same as building its table once.
+	 * For paths that need points inserted, removed or moved after they are built, see DynamicPath.
 	 *  
 	 * @param x The x value of the point to be added.
 	 * @param y The y value of the point to be added.
 	 */
 	public void add(int x, int y) {
-		points.add(new Point(x,y));
-		if (this.getPointCount() > 1)
-			segLengths.add(this.getLength(this.getPointCount()-2, this.getPointCount()-1));
-		totalLength = this.getLength(0, this.getPointCount()-1);
+		//Grow the arrays if they're full
+		int n = pointCount + 1;
+		if (n > xs.length || n > cumLengths.length) {
+			int capacity = Math.max(8, n*2);
+			xs = Arrays.copyOf(xs, capacity);
+			ys = Arrays.copyOf(ys, capacity);
+			segLengths = Arrays.copyOf(segLengths, capacity);
+			cumLengths = Arrays.copyOf(cumLengths, capacity);
+		}
+		
+		xs[n-1] = x;
+		ys[n-1] = y;
+		pointCount = n;
+		
+		if (n > 1) {
+			segLengths[n-2] = this.getLength(n-2, n-1);
+			cumLengths[n-1] = cumLengths[n-2] + segLengths[n-2];
+		}
+		//The cumulative length to the new last point is the total length, so there's no need to measure the whole path again
+		totalLength = cumLengths[n-1];
+		
+		//Only the last sample was clamped to the old end of the path, so resample from there
+		if (tableX != null)
+			sampleLookupTable(tableCount - 1);
+		else
+			rebuildLookupTable();
 	}
 	/**
 	 * Copies the list of points in the given Path object into this object.
@@ -132,13 +204,26 @@ public class Path {
 	 * @param newPath A Path object whose list of points is to be copied.
 	 */
 	public void setEqualTo(Path newPath) {
-		points = new ArrayList<Point>(newPath.getPointCount());
-		
-		for (int i = 0; i < newPath.getPointCount(); i++)
-			points.add(new Point(newPath.getX(i),newPath.getY(i)));
+		xs = Arrays.copyOf(newPath.xs, newPath.xs.length);
+		ys = Arrays.copyOf(newPath.ys, newPath.ys.length);
+		pointCount = newPath.pointCount;
 		
-		segLengths = newPath.getSegLengths();
+		segLengths = Arrays.copyOf(newPath.segLengths, newPath.segLengths.length);
 		totalLength = newPath.getTotalLength();
+		
+		buildCumLengths();
+		rebuildLookupTable();
+	}
+	
+	/**
+	 * Rebuilds the cumulative length array from the segment lengths.
+	 * Lengths are summed from the start of the path in order, so each entry matches a running sum of the segment lengths exactly.
+	 */
+	private void buildCumLengths() {
+		cumLengths = new double[Math.max(8, xs.length)];
+		
+		for (int i = 0; i < pointCount - 1; i++)
+			cumLengths[i+1] = cumLengths[i] + segLengths[i];
 	}
 	
 	/**
@@ -146,37 +231,416 @@ public class Path {
 	 * The percentage should be passed as a number between 0.0 and 1.0.
 	 * If the percentage is less than 0, the start point will be returned.
 	 * If the percentage is greater than 1, the end point will be returned.
+	 * The segment is found by binary search over the cumulative lengths, so the cost grows with log of the point count.
+	 * If a lookup table has been built, the location is instead interpolated from the table in constant time.
+	 * A path with a single point returns that point for every percentage.
 	 * 
 	 * @param percentTraveled Percent distance traveled along the path between successive points. Should be a double between 0.0 and 1.0.
 	 * @return The coordinate point of the location that corresponds to the percentage distance traveled.
+	 * @throws IllegalStateException if the path has no points.
 	 */
 	public Point convertToCoordinates(double percentTraveled) {
-		//Check for out of bounds inputs
-		if (percentTraveled < 0) return new Point(this.getX(0), this.getY(0));
-		if (percentTraveled > 1) return new 
-				Point(this.getX(this.getPointCount()-1),this.getY(this.getPointCount()-1));
+		return convertToCoordinates(percentTraveled, new Point());
+	}
+	
+	/**
+	 * Takes the percentage along the path and stores the point value associated with that location in the given point,
+	 * so callers that look up locations every tick can reuse one point instead of allocating a new one each time.
+	 * Behaves exactly like convertToCoordinates(double) otherwise.
+	 * 
+	 * @param percentTraveled Percent distance traveled along the path between successive points. Should be a double between 0.0 and 1.0.
+	 * @param location The point to store the location in. Its previous value is overwritten.
+	 * @return The location point passed in, now holding the coordinates that correspond to the percentage distance traveled.
+	 * @throws IllegalStateException if the path has no points.
+	 */
+	public Point convertToCoordinates(double percentTraveled, Point location) {
+		if (pointCount == 0)
+			throw new IllegalStateException("Can't find a location on a path with no points");
+		
+		//Check for out of bounds inputs, and paths with only one point to be at
+		if (percentTraveled < 0 || pointCount == 1) {
+			location.setLocation(xs[0], ys[0]);
+			return location;
+		}
+		if (percentTraveled > 1) {
+			location.setLocation(xs[pointCount-1], ys[pointCount-1]);
+			return location;
+		}
 		
 		//Get line segment the snail is currently on
 		double distTraveled = percentTraveled*this.totalLength;
-		double subLength = 0;
 		
-		//Get the line segment that the object is currently on
-		int i = -1;
-		double d = 1;
-		while (d > 0) {
-			//Increment index at start of loop; loop will begin at segment 0
-			i++;
-			subLength += segLengths.get(i);
-			d = distTraveled - subLength;
+		//If there is a lookup table, interpolate between the samples either side of the distance traveled
+		if (tableX != null) {
+			double sample = distTraveled/tableSpacing;
+			int k = Math.min((int) sample, tableCount - 2);
+			double t = tableFraction(distTraveled, sample, k);
+			
+			location.setLocation((int)(tableX[k] + t*(tableX[k+1] - tableX[k])), (int)(tableY[k] + t*(tableY[k+1] - tableY[k])));
+			return location;
 		}
 		
+		//Get the line segment that the object is currently on: the first segment that ends at or past the distance traveled
+		int i = findSegment(distTraveled);
+		double d = distTraveled - cumLengths[i+1];
+		
 		int curX, curY; //Hold the current x and y values of the object
-		double segPercent = d/segLengths.get(i); //Get percent backwards from end of segment
+		double segPercent = d/segLengths[i]; //Get percent backwards from end of segment
+		
+		curX = (int)((1 + segPercent)*xs[i+1] - segPercent*xs[i]);
+		curY = (int)((1 + segPercent)*ys[i+1] - segPercent*ys[i]);
+		
+		location.setLocation(curX,curY);
+		return location;
+	}
+	
+	/**
+	 * Builds a smooth path through the given control points using a Catmull-Rom spline.
+	 * The curve passes through every control point and is sampled into points spaced evenly along its length, so the result
+	 * is an ordinary path that is looked up just as fast as any other, and moving along it at a constant percentage per
+	 * second moves at a constant speed along the curve.
+	 * 
+	 * @param controls The control points the curve passes through, in order.
+	 * @param spacing Distance between the points of the new path, measured along the curve, in pixels. Must be greater than 0.
+	 * @return A new path following the curve.
+	 */
+	public static Path fromControlPoints(Path controls, double spacing) {
+		if (!(spacing > 0))
+			throw new IllegalArgumentException("Spline spacing must be greater than 0: " + spacing);
+		
+		int n = controls.getPointCount();
+		Path smooth = new Path();
+		if (n < 3) {
+			//Two points or fewer make a straight line, which is already as smooth as it gets
+			for (int i = 0; i < n; i++)
+				smooth.add(controls.xs[i], controls.ys[i]);
+			return smooth;
+		}
+		
+		//Sample the curve finely, a few samples per spacing of each span, so its length can be measured accurately
+		int capacity = 64;
+		double[] fineX = new double[capacity];
+		double[] fineY = new double[capacity];
+		int fineCount = 0;
+		
+		for (int i = 0; i < n - 1; i++) {
+			//Each span runs from control point i to i+1, shaped by the points either side. The ends are mirrored for those.
+			double x0 = i > 0 ? controls.xs[i-1] : 2*controls.xs[0] - controls.xs[1];
+			double y0 = i > 0 ? controls.ys[i-1] : 2*controls.ys[0] - controls.ys[1];
+			double x1 = controls.xs[i];
+			double y1 = controls.ys[i];
+			double x2 = controls.xs[i+1];
+			double y2 = controls.ys[i+1];
+			double x3 = i + 2 < n ? controls.xs[i+2] : 2*controls.xs[n-1] - controls.xs[n-2];
+			double y3 = i + 2 < n ? controls.ys[i+2] : 2*controls.ys[n-1] - controls.ys[n-2];
+			
+			double chord = Math.sqrt((x2 - x1)*(x2 - x1) + (y2 - y1)*(y2 - y1));
+			int steps = Math.max(8, (int) Math.ceil(4*chord/spacing));
+			
+			//The first sample of each span is the last sample of the span before, so only the very first span starts at 0
+			for (int s = (i == 0 ? 0 : 1); s <= steps; s++) {
+				double t = s/(double) steps;
+				double t2 = t*t;
+				double t3 = t2*t;
+				
+				if (fineCount == capacity) {
+					capacity *= 2;
+					fineX = Arrays.copyOf(fineX, capacity);
+					fineY = Arrays.copyOf(fineY, capacity);
+				}
+				fineX[fineCount] = 0.5*(2*x1 + (x2 - x0)*t + (2*x0 - 5*x1 + 4*x2 - x3)*t2 + (3*x1 - x0 - 3*x2 + x3)*t3);
+				fineY[fineCount] = 0.5*(2*y1 + (y2 - y0)*t + (2*y0 - 5*y1 + 4*y2 - y3)*t2 + (3*y1 - y0 - 3*y2 + y3)*t3);
+				fineCount++;
+			}
+		}
+		
+		//Walk the fine samples, placing a point every spacing pixels along the curve
+		smooth.add(controls.xs[0], controls.ys[0]);
+		double walked = 0;
+		double nextPoint = spacing;
+		for (int j = 0; j < fineCount - 1; j++) {
+			double dx = fineX[j+1] - fineX[j];
+			double dy = fineY[j+1] - fineY[j];
+			double length = Math.sqrt(dx*dx + dy*dy);
+			
+			while (length > 0 && walked + length >= nextPoint) {
+				double t = (nextPoint - walked)/length;
+				addIfMoved(smooth, (int) Math.round(fineX[j] + t*dx), (int) Math.round(fineY[j] + t*dy));
+				nextPoint += spacing;
+			}
+			walked += length;
+		}
+		addIfMoved(smooth, controls.xs[n-1], controls.ys[n-1]);
+		
+		return smooth;
+	}
+	
+	/**
+	 * Adds a point to the end of the path, unless it's the same as the current last point.
+	 * Keeps rounding from creating segments with no length.
+	 */
+	private static void addIfMoved(Path path, int x, int y) {
+		int last = path.pointCount - 1;
+		if (last < 0 || path.xs[last] != x || path.ys[last] != y)
+			path.add(x, y);
+	}
+	
+	/**
+	 * Creates a simplified copy of this path using the Douglas-Peucker algorithm, dropping every point that lies within
+	 * the given distance of the simplified path. The start and end points are always kept.
+	 * Nearly collinear points, like those from clicking or tracing a path by hand, are the ones removed.
+	 * 
+	 * @param tolerance The furthest, in pixels, that a removed point may be from the simplified path.
+	 * @return A new path with only the points that are needed to stay within the tolerance.
+	 */
+	public Path simplify(double tolerance) {
+		boolean[] keep = new boolean[pointCount];
+		
+		if (pointCount > 0) {
+			keep[0] = true;
+			keep[pointCount-1] = true;
+		}
+		
+		//Stack of index ranges still to be simplified, stored as first/last pairs, so long paths can't overflow the call stack
+		int[] stack = new int[2*Math.max(pointCount, 1)];
+		int top = 0;
+		if (pointCount > 2) {
+			stack[top++] = 0;
+			stack[top++] = pointCount-1;
+		}
+		
+		while (top > 0) {
+			int last = stack[--top];
+			int first = stack[--top];
+			
+			//Find the point between first and last that is furthest from the segment joining them
+			int furthest = -1;
+			double maxDistance = tolerance;
+			for (int i = first + 1; i < last; i++) {
+				double distance = distanceToSegment(xs[i], ys[i], xs[first], ys[first], xs[last], ys[last]);
+				if (distance > maxDistance) {
+					maxDistance = distance;
+					furthest = i;
+				}
+			}
+			
+			//If it's out of tolerance, keep it and simplify each side of it
+			if (furthest >= 0) {
+				keep[furthest] = true;
+				stack[top++] = first;
+				stack[top++] = furthest;
+				stack[top++] = furthest;
+				stack[top++] = last;
+			}
+		}
+		
+		Path simplified = new Path();
+		for (int i = 0; i < pointCount; i++)
+			if (keep[i])
+				simplified.add(xs[i], ys[i]);
+		
+		return simplified;
+	}
+	
+	/**
+	 * Gets the distance from a point to the closest point on a line segment.
+	 * 
+	 * @return the distance from (px, py) to the segment from (x1, y1) to (x2, y2).
+	 */
+	private static double distanceToSegment(int px, int py, int x1, int y1, int x2, int y2) {
+		double dx = x2 - x1;
+		double dy = y2 - y1;
+		double lengthSq = dx*dx + dy*dy;
+		
+		//Find how far along the segment the closest point is, clamped to the segment's ends
+		double t = 0;
+		if (lengthSq > 0)
+			t = Math.max(0, Math.min(1, ((px - x1)*dx + (py - y1)*dy)/lengthSq));
+		
+		double ex = x1 + t*dx - px;
+		double ey = y1 + t*dy - py;
+		return Math.sqrt(ex*ex + ey*ey);
+	}
+	
+	/**
+	 * Takes a batch of percentages along the path, sorted from smallest to largest, and stores the location of each one in
+	 * the given coordinate arrays. The segments are walked once from the start of the path for the whole batch, instead of
+	 * being searched for each percentage. Percentages that are out of order still get the right location, but each one that
+	 * goes backwards costs a binary search. If a lookup table has been built, each location is instead interpolated from
+	 * the table, exactly as convertToCoordinates(double) would, and no sweep is needed.
+	 * 
+	 * @param percentages Percent distances traveled along the path, between 0.0 and 1.0, sorted from smallest to largest.
+	 * @param outX Array to store the x coordinate of each location in, at the same index as its percentage.
+	 * @param outY Array to store the y coordinate of each location in, at the same index as its percentage.
+	 * @param count Number of percentages to convert.
+	 * @throws IllegalStateException if the path has no points.
+	 */
+	public void convertToCoordinates(double[] percentages, int[] outX, int[] outY, int count) {
+		if (pointCount == 0 && count > 0)
+			throw new IllegalStateException("Can't find a location on a path with no points");
+		
+		int i = 0; //Segment of the last location found
+		int lastSegment = pointCount - 2;
+		
+		for (int k = 0; k < count; k++) {
+			double percentTraveled = percentages[k];
+			
+			//Check for out of bounds inputs, and paths with only one point to be at
+			if (percentTraveled < 0 || pointCount == 1) {
+				outX[k] = xs[0];
+				outY[k] = ys[0];
+				continue;
+			}
+			if (percentTraveled > 1) {
+				outX[k] = xs[pointCount-1];
+				outY[k] = ys[pointCount-1];
+				continue;
+			}
+			
+			double distTraveled = percentTraveled*this.totalLength;
+			
+			//If there is a lookup table, interpolate between the samples either side of the distance traveled
+			if (tableX != null) {
+				double sample = distTraveled/tableSpacing;
+				int t = Math.min((int) sample, tableCount - 2);
+				double f = tableFraction(distTraveled, sample, t);
+				
+				outX[k] = (int)(tableX[t] + f*(tableX[t+1] - tableX[t]));
+				outY[k] = (int)(tableY[t] + f*(tableY[t+1] - tableY[t]));
+				continue;
+			}
+			
+			//Carry on from the last segment, searching from scratch only if this location is behind it
+			if (i > 0 && distTraveled <= cumLengths[i])
+				i = findSegment(distTraveled);
+			while (i < lastSegment && cumLengths[i+1] < distTraveled)
+				i++;
+			
+			double d = distTraveled - cumLengths[i+1];
+			double segPercent = d/segLengths[i]; //Get percent backwards from end of segment
+			
+			outX[k] = (int)((1 + segPercent)*xs[i+1] - segPercent*xs[i]);
+			outY[k] = (int)((1 + segPercent)*ys[i+1] - segPercent*ys[i]);
+		}
+	}
+	
+	/**
+	 * Builds a lookup table of positions sampled every spacing pixels along the path, which convertToCoordinates() then uses
+	 * instead of searching for the segment. Positions between samples are interpolated, so a position can be off by up to
+	 * about half the spacing where the path turns a corner. The table is extended whenever points are added to the path.
+	 * 
+	 * @param spacing Distance between samples, in pixels. Must be greater than 0.
+	 */
+	public void buildLookupTable(double spacing) {
+		if (!(spacing > 0))
+			throw new IllegalArgumentException("Lookup table spacing must be greater than 0: " + spacing);
+		
+		tableSpacing = spacing;
+		rebuildLookupTable();
+	}
+	
+	/**
+	 * Removes the lookup table, so convertToCoordinates() goes back to finding the exact segment.
+	 */
+	public void clearLookupTable() {
+		tableSpacing = 0;
+		tableX = null;
+		tableY = null;
+		tableCount = 0;
+	}
+	
+	/**
+	 * Checks if the path has a lookup table.
+	 * 
+	 * @return true if convertToCoordinates() uses a lookup table.
+	 */
+	public boolean hasLookupTable() {
+		return tableX != null;
+	}
+	
+	/**
+	 * Samples the path every tableSpacing pixels into the lookup table, if one has been requested.
+	 * The last sample is always the end point of the path.
+	 */
+	private void rebuildLookupTable() {
+		tableX = null;
+		tableY = null;
+		tableCount = 0;
+		if (tableSpacing <= 0 || this.getPointCount() < 2)
+			return;
+		
+		sampleLookupTable(0);
+	}
+	
+	/**
+	 * Samples the path into the lookup table from sample first to the end of the path, growing the table if it's full.
+	 * The samples before first are kept as they are.
+	 * 
+	 * @param first The index of the first sample to be taken again.
+	 */
+	private void sampleLookupTable(int first) {
+		int samples = Math.max(2, (int) Math.ceil(totalLength/tableSpacing) + 1);
+		double[] newX = tableX;
+		double[] newY = tableY;
+		if (newX == null || samples > newX.length) {
+			int capacity = newX == null ? samples : Math.max(samples, newX.length*2);
+			newX = newX == null ? new double[capacity] : Arrays.copyOf(newX, capacity);
+			newY = newY == null ? new double[capacity] : Arrays.copyOf(newY, capacity);
+		}
 		
-		curX = (int)((1 + segPercent)*this.getX(i+1) - segPercent*this.getX(i));
-		curY = (int)((1 + segPercent)*this.getY(i+1) - segPercent*this.getY(i));
+		for (int k = first; k < samples; k++) {
+			double distance = Math.min(k*tableSpacing, totalLength);
+			int i = findSegment(distance);
+			double d = distance - cumLengths[i+1];
+			double segPercent = segLengths[i] > 0 ? d/segLengths[i] : 0;
+			
+			newX[k] = (1 + segPercent)*xs[i+1] - segPercent*xs[i];
+			newY[k] = (1 + segPercent)*ys[i+1] - segPercent*ys[i];
+		}
+		
+		tableX = newX;
+		tableY = newY;
+		tableCount = samples;
+	}
+	
+	/**
+	 * Gets how far a distance is between lookup table sample k and the sample after it, from 0 to 1.
+	 * Every interval is tableSpacing wide except the last, which ends at the end of the path and so is usually shorter.
+	 * 
+	 * @param distance The distance along the path.
+	 * @param sample The distance in samples, distance/tableSpacing.
+	 * @param k The index of the sample at the start of the interval.
+	 * @return the fraction of the interval before the distance.
+	 */
+	private double tableFraction(double distance, double sample, int k) {
+		if (k < tableCount - 2)
+			return sample - k;
+		
+		double start = k*tableSpacing;
+		double width = totalLength - start;
+		return width > 0 ? (distance - start)/width : 0;
+	}
+	
+	/**
+	 * Finds the first segment whose end point is at or past the given distance along the path, using binary search.
+	 * Distances past the end of the path return the last segment.
+	 * 
+	 * @param distance The distance along the path, from the start point.
+	 * @return The index of the segment containing the distance. Segment i runs from point i to point i+1.
+	 */
+	public int findSegment(double distance) {
+		int low = 0;
+		int high = this.getPointCount() - 2;
+		
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (cumLengths[mid+1] >= distance)
+				high = mid;
+			else
+				low = mid + 1;
+		}
 		
-		return new Point(curX,curY);
+		return low;
 	}
 	
 	/**
@@ -193,10 +657,10 @@ public class Path {
 		
 		//Iterate from start to end points, getting length of each section
 		for (int i = firstIndex; i < lastIndex; i++) {
-			x_sq = this.getX(i+1) - this.getX(i);
+			x_sq = xs[i+1] - xs[i];
 			x_sq = x_sq*x_sq;
 			
-			y_sq = this.getY(i+1) - this.getY(i);
+			y_sq = ys[i+1] - ys[i];
 			y_sq = y_sq*y_sq;
 			
 			l += Math.pow(x_sq + y_sq, 0.5);
@@ -215,19 +679,20 @@ public class Path {
 	 * 1 3
 	 * 4 5
 	 * 
+	 * To write a path to a file without building the whole string first, use PathIO.writeText().
 	 */
 	public String toString() {
-		String tempString = new String();
+		StringBuilder builder = new StringBuilder(pointCount*8 + 8);
 		
 		//Prints the number of points followed by a line-break
-		tempString = points.size() + "\n";
+		builder.append(pointCount).append('\n');
 		
 		//Prints out each x and y value, space separated, with a line-break afterwards
-		for (int i = 0; i < points.size(); i++) {
-			tempString += points.get(i).x + " " + points.get(i).y + "\n";
+		for (int i = 0; i < pointCount; i++) {
+			builder.append(xs[i]).append(' ').append(ys[i]).append('\n');
 		}
 		
-		return tempString;
+		return builder.toString();
 	}
 	
 	/**
@@ -0,0 +1,205 @@
+/**
+ * PathBenchmark class for timing Path position lookups.
+ * Times Path.convertToCoordinates() on the game's path and on generated paths of up to 100,000 points, and compares
+ * it against the original linear scan over the segment lengths and against a 1 pixel lookup table. Also times a batch of
+ * 5000 sorted percentages converted in one sweep, the way enemies are located, both without and with the lookup table,
+ * and measures the lookup table's error. The lookups are checked against the linear scan by PathLookupTest.
+ * Also holds the path generator and the linear scan that the other path benchmarks and tests share.
+ * Run with the resources folder on the classpath so the game's path can be loaded.
+ *
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+
+package path;
+
+import java.awt.Point;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.Scanner;
+
+public class PathBenchmark {
+	private static final int QUERIES = 200000;			// Lookups timed per path
+	private static final long LINEAR_BUDGET = 200000000;	// Caps the segments the linear scan walks per path
+	private static final int BATCH = 5000;					// Percentages per batch, about a late wave of enemies
+
+	// Sink for results so the lookups can't be optimized away
+	private static long checksum;
+
+	/**
+	 * Runs the benchmark on the game's path and on generated paths of increasing size.
+	 *
+	 * @param args Unused.
+	 */
+	public static void main(String[] args) {
+		ArrayList<Path> paths = new ArrayList<Path>();
+
+		//Load the game's path
+		InputStream pathStream = PathBenchmark.class.getClassLoader().getResourceAsStream("resources/path.path");
+		if (pathStream != null)
+			paths.add(new Path(new Scanner(pathStream)));
+		else
+			System.out.println("resources/path.path not found on the classpath, skipping the game's path");
+
+		//Generate larger paths
+		int[] sizes = {1000, 10000, 100000};
+		for (int size : sizes)
+			paths.add(generatePath(size, 42));
+
+		//Warm up both lookups so the JIT has compiled them before timing
+		for (int i = 0; i < 3; i++)
+			for (Path p : paths) {
+				time(p, Math.min(QUERIES, 20000), false);
+				time(p, Math.min(QUERIES, 20000), true);
+			}
+
+		System.out.printf("%10s %16s %16s %15s %10s %14s %16s %15s%n", "points", "linear ns/query", "binary ns/query",
+				"table ns/query", "speedup", "table error px", "batch ns/query", "table batch ns");
+		for (Path p : paths) {
+			int linearQueries = (int) Math.max(1000, Math.min(QUERIES, LINEAR_BUDGET/p.getPointCount()));
+			double linear = time(p, linearQueries, true);
+			double binary = time(p, QUERIES, false);
+
+			p.buildLookupTable(1.0);
+			for (int i = 0; i < 5; i++)
+				time(p, QUERIES, false); // Warm up the table lookup
+			double table = time(p, QUERIES, false);
+			double error = tableError(p);
+			for (int i = 0; i < 5; i++)
+				timeBatch(p, QUERIES/BATCH); // Warm up the table batch
+			double tableBatch = timeBatch(p, QUERIES/BATCH);
+			p.clearLookupTable();
+
+			for (int i = 0; i < 5; i++)
+				timeBatch(p, QUERIES/BATCH); // Warm up the batch
+			double batch = timeBatch(p, QUERIES/BATCH);
+
+			System.out.printf("%10d %16.1f %16.1f %15.1f %9.1fx %14.2f %16.1f %15.1f%n", p.getPointCount(), linear, binary,
+					table, linear/table, error, batch, tableBatch);
+		}
+
+		System.out.println("(checksum " + checksum + ")");
+	}
+
+	/**
+	 * Generates a random walk path with the given number of points inside the 600x600 game field.
+	 *
+	 * @param pointCount Number of points in the path.
+	 * @param seed Seed for the random walk, so runs are repeatable.
+	 * @return the generated path.
+	 */
+	public static Path generatePath(int pointCount, long seed) {
+		Random rand = new Random(seed);
+		Path path = new Path();
+		int x = 300;
+		int y = 300;
+
+		for (int i = 0; i < pointCount; i++) {
+			path.add(x, y);
+
+			//Step in a random direction, staying within the field
+			x = Math.min(599, Math.max(0, x + rand.nextInt(21) - 10));
+			y = Math.min(599, Math.max(0, y + rand.nextInt(21) - 10));
+		}
+
+		return path;
+	}
+
+	/**
+	 * Times lookups of evenly spread percentages along the path.
+	 *
+	 * @param path The path to be looked up.
+	 * @param queries Number of lookups to time.
+	 * @param linear true to time the linear scan, false to time Path.convertToCoordinates().
+	 * @return the average time of a lookup, in nanoseconds.
+	 */
+	private static double time(Path path, int queries, boolean linear) {
+		long start = System.nanoTime();
+		long sum = 0;
+
+		for (int i = 0; i < queries; i++) {
+			//Spread queries evenly along the path, in a scrambled order so they don't walk the path in sequence
+			double percent = ((i*7919L) % queries)/(double) queries;
+			Point p = linear ? linearConvert(path, percent) : path.convertToCoordinates(percent);
+			sum += p.x + p.y;
+		}
+
+		checksum += sum;
+		return (System.nanoTime() - start)/(double) queries;
+	}
+
+	/**
+	 * Times converting batches of evenly spread, sorted percentages in one sweep each.
+	 *
+	 * @param path The path to be looked up.
+	 * @param batches Number of batches to convert.
+	 * @return the average time per percentage converted, in nanoseconds.
+	 */
+	private static double timeBatch(Path path, int batches) {
+		double[] percentages = new double[BATCH];
+		int[] xs = new int[BATCH];
+		int[] ys = new int[BATCH];
+		for (int i = 0; i < BATCH; i++)
+			percentages[i] = i/(double) BATCH;
+
+		long start = System.nanoTime();
+		long sum = 0;
+		for (int b = 0; b < batches; b++) {
+			path.convertToCoordinates(percentages, xs, ys, BATCH);
+			sum += xs[b % BATCH] + ys[b % BATCH];
+		}
+
+		checksum += sum;
+		return (System.nanoTime() - start)/(double) (batches*BATCH);
+	}
+
+	/**
+	 * Measures the largest distance between the path's lookup table position and the exact position.
+	 *
+	 * @param path A path with a lookup table.
+	 * @return the largest error found, in pixels.
+	 */
+	private static double tableError(Path path) {
+		double maxError = 0;
+		int checks = 20000;
+		for (int i = 0; i <= checks; i++) {
+			double percent = i/(double) checks;
+			Point exact = linearConvert(path, percent);
+			maxError = Math.max(maxError, exact.distance(path.convertToCoordinates(percent)));
+		}
+
+		return maxError;
+	}
+
+	/**
+	 * The original Path.convertToCoordinates(), which walks the segment lengths from the start of the path on every call.
+	 * Kept as the reference the binary search is compared against.
+	 *
+	 * @param path The path to be looked up.
+	 * @param percentTraveled Percent distance traveled along the path, between 0.0 and 1.0.
+	 * @return The coordinate point of the location that corresponds to the percentage distance traveled.
+	 */
+	public static Point linearConvert(Path path, double percentTraveled) {
+		int last = path.getPointCount() - 1;
+		if (percentTraveled < 0) return new Point(path.getX(0), path.getY(0));
+		if (percentTraveled > 1) return new Point(path.getX(last), path.getY(last));
+
+		double distTraveled = percentTraveled*path.getTotalLength();
+		double subLength = 0;
+
+		int i = -1;
+		double d = 1;
+		while (d > 0) {
+			i++;
+			subLength += path.getSegLength(i);
+			d = distTraveled - subLength;
+		}
+
+		double segPercent = d/path.getSegLength(i);
+		int curX = (int)((1 + segPercent)*path.getX(i+1) - segPercent*path.getX(i));
+		int curY = (int)((1 + segPercent)*path.getY(i+1) - segPercent*path.getY(i));
+
+		return new Point(curX, curY);
+	}
+}
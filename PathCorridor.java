@@ -0,0 +1,148 @@
+/**
+ * PathCorridor class for finding the area around a path that nothing should be built on.
+ * The corridor is every pixel within a given radius of a path's segments. It is drawn once into a BitGrid, one bit per
+ * pixel, packed 64 to a long along each row. Checking whether a rectangle touches the corridor then masks the few words
+ * each of its rows covers, so the cost depends on the rectangle's size and not on how many points the path has.
+ *
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+
+package path;
+
+public class PathCorridor {
+	//Fields
+	private int radius;
+	private BitGrid grid;	// Set for every pixel in the corridor
+
+	/**
+	 * Creates an empty corridor over a field of the given size.
+	 *
+	 * @param width Width of the field, in pixels.
+	 * @param height Height of the field, in pixels.
+	 * @param radius Distance from the path that is part of the corridor, in pixels.
+	 */
+	public PathCorridor(int width, int height, int radius) {
+		this.radius = radius;
+		grid = new BitGrid(width, height);
+	}
+
+	//Accessors
+	/**
+	 * Gets the width of the field the corridor covers.
+	 *
+	 * @return the width, in pixels.
+	 */
+	public int getWidth() {
+		return grid.getWidth();
+	}
+	/**
+	 * Gets the height of the field the corridor covers.
+	 *
+	 * @return the height, in pixels.
+	 */
+	public int getHeight() {
+		return grid.getHeight();
+	}
+	/**
+	 * Gets the distance from the path that is part of the corridor.
+	 *
+	 * @return the radius, in pixels.
+	 */
+	public int getRadius() {
+		return radius;
+	}
+
+	/**
+	 * Adds every pixel within the radius of the given path's segments to the corridor.
+	 * A path with a single point adds the circle around it.
+	 *
+	 * @param path The path to be added.
+	 */
+	public void addPath(Path path) {
+		if (path.getPointCount() == 1)
+			addSegment(path.getX(0), path.getY(0), path.getX(0), path.getY(0));
+
+		for (int i = 0; i < path.getPointCount() - 1; i++)
+			addSegment(path.getX(i), path.getY(i), path.getX(i+1), path.getY(i+1));
+	}
+
+	/**
+	 * Adds every pixel within the radius of every leg of the given graph to the corridor.
+	 *
+	 * @param graph The path graph to be added.
+	 */
+	public void addGraph(PathGraph graph) {
+		for (int i = 0; i < graph.getLegCount(); i++)
+			addPath(graph.getLeg(i));
+	}
+
+	//Checks
+	/**
+	 * Checks if a pixel is in the corridor. Pixels outside the field never are.
+	 *
+	 * @param x The x value of the pixel.
+	 * @param y The y value of the pixel.
+	 * @return true if the pixel is within the radius of the path.
+	 */
+	public boolean contains(int x, int y) {
+		return grid.get(x, y);
+	}
+
+	/**
+	 * Checks if any pixel of a rectangle is in the corridor. The parts of the rectangle outside the field are ignored.
+	 *
+	 * @param left The x value of the rectangle's left column.
+	 * @param top The y value of the rectangle's top row.
+	 * @param right The x value of the rectangle's right column, included in the rectangle.
+	 * @param bottom The y value of the rectangle's bottom row, included in the rectangle.
+	 * @return true if the rectangle overlaps the corridor.
+	 */
+	public boolean intersects(int left, int top, int right, int bottom) {
+		return grid.intersects(left, top, right, bottom);
+	}
+
+	/**
+	 * Sets the bits of every pixel within the radius of the segment from (x1, y1) to (x2, y2).
+	 * Each row of the segment's bounding box, grown by the radius, is filled between the first and last pixel in reach.
+	 */
+	private void addSegment(int x1, int y1, int x2, int y2) {
+		int top = Math.max(0, Math.min(y1, y2) - radius);
+		int bottom = Math.min(grid.getHeight() - 1, Math.max(y1, y2) + radius);
+		int minX = Math.max(0, Math.min(x1, x2) - radius);
+		int maxX = Math.min(grid.getWidth() - 1, Math.max(x1, x2) + radius);
+		long rSquared = (long) radius*radius;
+
+		for (int y = top; y <= bottom; y++) {
+			//The pixels in reach on a row are a single run, since the area around a segment is convex
+			int first = minX;
+			while (first <= maxX && distanceSquared(first, y, x1, y1, x2, y2) > rSquared)
+				first++;
+			if (first > maxX)
+				continue;
+			int last = maxX;
+			while (distanceSquared(last, y, x1, y1, x2, y2) > rSquared)
+				last--;
+
+			grid.fill(first, y, last, y, true);
+		}
+	}
+
+	/**
+	 * Gets the squared distance from the point (px, py) to the segment from (x1, y1) to (x2, y2).
+	 */
+	private static double distanceSquared(int px, int py, int x1, int y1, int x2, int y2) {
+		double dx = x2 - x1;
+		double dy = y2 - y1;
+		double lengthSquared = dx*dx + dy*dy;
+
+		//Find how far along the segment the closest point is, clamped to the segment's ends
+		double t = 0;
+		if (lengthSquared > 0)
+			t = Math.max(0, Math.min(1, ((px - x1)*dx + (py - y1)*dy)/lengthSquared));
+
+		double cx = x1 + t*dx - px;
+		double cy = y1 + t*dy - py;
+		return cx*cx + cy*cy;
+	}
+}
@@ -21,15 +21,15 @@ import java.awt.event.MouseListener;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.Scanner;
 import javax.imageio.ImageIO;
 import javax.swing.JButton;
+import javax.swing.JCheckBoxMenuItem;
 import javax.swing.JFileChooser;
 import javax.swing.JFrame;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
+import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 import javax.swing.filechooser.FileNameExtensionFilter;
@@ -60,6 +60,11 @@ public class PathEditor extends JPanel implements 	Runnable,
 	private JMenuItem savePath;
 	private JMenuItem newPath;
 	
+	//Tool fields
+	private JMenuItem simplifyPath;
+	private JCheckBoxMenuItem smoothCurve;	//When selected, the points are control points for a smooth curve
+	private double splineSpacing = 4.0;		//Spacing of the points of the smooth curve, in pixels
+	
 	//Color fields
 	private JMenuItem colorRed;
 	private JMenuItem colorBlue;
@@ -178,6 +183,18 @@ public class PathEditor extends JPanel implements 	Runnable,
         backgroundMenu.add(background1);
         backgroundMenu.add(background2);
         
+        /*
+         * Tools JMenu
+         */
+        JMenu toolsMenu = new JMenu("Tools");
+        
+        simplifyPath = new JMenuItem("Simplify...");
+        smoothCurve = new JCheckBoxMenuItem("Smooth Curve");
+        
+        menuBar.add(toolsMenu);
+        toolsMenu.add(simplifyPath);
+        toolsMenu.add(smoothCurve);
+        
         //Add action listeners for all of the JMenuItems
         loadPath.addActionListener(this);
         savePath.addActionListener(this);
@@ -188,6 +205,8 @@ public class PathEditor extends JPanel implements 	Runnable,
         colorBlack.addActionListener(this);
         background1.addActionListener(this);
         background2.addActionListener(this);
+        simplifyPath.addActionListener(this);
+        smoothCurve.addActionListener(this);
         
         content.add(topLevel, BorderLayout.CENTER);
         content.add(buttonPanel, BorderLayout.SOUTH);
@@ -212,6 +231,7 @@ public class PathEditor extends JPanel implements 	Runnable,
 	
 	/**
 	 * Draws dots at the points selected by the user, and then draws the path between those points.
+	 * In smooth curve mode, the smooth curve through the points is drawn instead of straight lines.
 	 */
 	@Override
 	public void paint(Graphics g) {
@@ -229,9 +249,10 @@ public class PathEditor extends JPanel implements 	Runnable,
 		//Draw circular dots at the selected points
 		for (int i = 0; i < path.getPointCount(); i++)
 			g.fillOval(path.getX(i) - circDiameter/2, path.getY(i) - circDiameter/2, circDiameter, circDiameter);
-		//Draw lines between successive points
-		for (int i = 0; i < path.getPointCount() - 1; i++)
-			g.drawLine(path.getX(i), path.getY(i), path.getX(i+1), path.getY(i+1));
+		//Draw lines between successive points, following the smooth curve if there is one
+		Path line = smoothCurve.isSelected() ? Path.fromControlPoints(path, splineSpacing) : path;
+		for (int i = 0; i < line.getPointCount() - 1; i++)
+			g.drawLine(line.getX(i), line.getY(i), line.getX(i+1), line.getY(i+1));
 	}
 	
 	//Unimplemented methods
@@ -303,6 +324,14 @@ public class PathEditor extends JPanel implements 	Runnable,
 			}
 		}
 		
+		//Tools menu
+		if (e.getSource() == simplifyPath) {
+			simplifyPath();
+		}
+		else if (e.getSource() == smoothCurve) {
+			repaint();
+		}
+		
 		//Button options
 		
 		if (e.getSource() == undoButton) {
@@ -318,15 +347,15 @@ public class PathEditor extends JPanel implements 	Runnable,
 	 */
 	
 	/**
-	 * Method to load a saved Path object from a .path file into the PathEditor. Creates an undo object beforehand and redraws the image.
+	 * Method to load a saved Path object from a .path or .pathb file into the PathEditor. Creates an undo object beforehand and redraws the image.
 	 */
 	private void loadPath() {
 		getUndoPath();
 		
 		JFileChooser fileChooser = new JFileChooser();
 		
-		//Set the file filter to .path files
-		FileNameExtensionFilter extensionFilter = new FileNameExtensionFilter("Path files", "path");
+		//Set the file filter to .path and .pathb files
+		FileNameExtensionFilter extensionFilter = new FileNameExtensionFilter("Path files", PathIO.TEXT_EXTENSION, PathIO.BINARY_EXTENSION);
 		fileChooser.setFileFilter(extensionFilter);
 		
 		int result = fileChooser.showOpenDialog(this);
@@ -335,19 +364,35 @@ public class PathEditor extends JPanel implements 	Runnable,
 		if (result != JFileChooser.APPROVE_OPTION)
 			return;
 		
-		//Open the file and load it into a scanner to construct a new Path object
+		//Open the file and load it as text or binary based on its extension.
+		//Spline files load their control points, so they can be edited, and turn on smooth curve mode.
 		File file = fileChooser.getSelectedFile();
-		try (Scanner input = new Scanner(file)) {
-			path = new Path(input);
+		try {
+			double spacing = PathIO.readSplineSpacing(file);
+			if (spacing > 0) {
+				path = PathIO.readControlPoints(file);
+				splineSpacing = spacing;
+				smoothCurve.setSelected(true);
+			}
+			else {
+				path = PathIO.load(file);
+				smoothCurve.setSelected(false);
+			}
 		}
 		catch (IOException e) {
 			System.err.println("Unable to load from selected file.");
+			return;
 		}
 		
 		repaint();
+		
+		//Warn about any problems with the loaded path so they can be fixed before it's used
+		PathValidation validation = validatePath();
+		if (!validation.isValid())
+			JOptionPane.showMessageDialog(this, validation.toString(), "Path problems", JOptionPane.WARNING_MESSAGE);
 	}
 	/**
-	 * Method to save a new or edited Path from the PathEditor to a .path file.
+	 * Method to save a new or edited Path from the PathEditor to a .path file, or to a binary .pathb file if that extension is chosen.
 	 */
 	private void savePath() {
 		JFileChooser fileChooser = new JFileChooser();
@@ -357,17 +402,32 @@ public class PathEditor extends JPanel implements 	Runnable,
 		if (result != JFileChooser.APPROVE_OPTION)
 			return;
 		
+		//Check the path first, and only save a path with problems if the user still wants to
+		PathValidation validation = validatePath();
+		if (!validation.isValid()) {
+			int choice = JOptionPane.showConfirmDialog(this, validation + "Save anyway?", "Path problems", JOptionPane.YES_NO_OPTION,
+					JOptionPane.WARNING_MESSAGE);
+			if (choice != JOptionPane.YES_OPTION)
+				return;
+		}
+		
 		//Load the selected file location into a file object
 		File file = fileChooser.getSelectedFile();
 		String filePath = file.getAbsolutePath();
 		
-		//Append the the .path extension if the filename doesn't end with .path
-		if(!filePath.endsWith(".path"))
-			file = new File(filePath + ".path");
+		//Append the the .path extension if the filename doesn't end with .path or .pathb
+		if(!filePath.endsWith("." + PathIO.TEXT_EXTENSION) && !filePath.endsWith("." + PathIO.BINARY_EXTENSION))
+			file = new File(filePath + "." + PathIO.TEXT_EXTENSION);
 		
-		//Write the Path object to the file, using the toString() method
-		try (PrintWriter output = new PrintWriter(file)) {
-			output.print(path.toString());
+		//Write the Path object to the file, streaming it one point at a time.
+		//In smooth curve mode, text files keep just the control points, while binary files hold the curve itself.
+		try {
+			if (!smoothCurve.isSelected())
+				PathIO.save(path, file);
+			else if (PathIO.isBinary(file))
+				PathIO.writeBinary(Path.fromControlPoints(path, splineSpacing), file);
+			else
+				PathIO.writeSplineText(path, splineSpacing, file);
 		}
 		catch (IOException e) {
 			System.err.println("Could not write to selected file.");
@@ -397,6 +457,48 @@ public class PathEditor extends JPanel implements 	Runnable,
 		undid = false;
 	}
 	
+	/*
+	 * Tool functions
+	 */
+	
+	/**
+	 * Checks the path as it will be used for degenerate segments and crossings. In smooth curve mode, the curve is checked.
+	 * 
+	 * @return the problems found in the path.
+	 */
+	private PathValidation validatePath() {
+		if (smoothCurve.isSelected())
+			return PathValidation.check(Path.fromControlPoints(path, splineSpacing));
+		
+		return PathValidation.check(path);
+	}
+	
+	/**
+	 * Asks the user for a tolerance in pixels, then simplifies the path by removing every point within that distance
+	 * of the simplified path. Creates an undo object beforehand, reports the point counts before and after, and redraws the image.
+	 */
+	private void simplifyPath() {
+		String input = JOptionPane.showInputDialog(this, "Remove points within this many pixels of the path:", "1.0");
+		if (input == null)
+			return;
+		
+		double tolerance;
+		try {
+			tolerance = Double.parseDouble(input.trim());
+		}
+		catch (NumberFormatException e) {
+			JOptionPane.showMessageDialog(this, "\"" + input + "\" is not a number.");
+			return;
+		}
+		
+		getUndoPath();
+		int before = path.getPointCount();
+		path = path.simplify(tolerance);
+		repaint();
+		
+		JOptionPane.showMessageDialog(this, "Simplified the path from " + before + " points to " + path.getPointCount() + " points.");
+	}
+	
 	/*
 	 * Undo/Redo functions
 	 */
@@ -0,0 +1,131 @@
+/**
+ * PathGraph class for maps with more than one way through them.
+ * A graph is a set of legs, each an ordinary Path, and a set of routes that each run through a list of legs joined
+ * end to start. Routes can start at different spawn points, fork apart by continuing onto different legs, and merge by
+ * continuing onto the same leg. Each leg is stored once, however many routes share it, and each route keeps its own
+ * cumulative leg lengths so positions along it are found without looking at any other branch.
+ * A single path is a graph with one leg and one route through it.
+ *
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+
+package path;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PathGraph {
+	//Fields
+	private List<Path> legs;
+	private List<PathRoute> routes;
+
+	/**
+	 * Empty constructor that creates a graph with no legs or routes.
+	 */
+	public PathGraph() {
+		legs = new ArrayList<Path>();
+		routes = new ArrayList<PathRoute>();
+	}
+
+	/**
+	 * Constructor that creates a graph with the given path as its only leg and one route along it.
+	 *
+	 * @param path The path to be followed.
+	 */
+	public PathGraph(Path path) {
+		this();
+		addRoute(addLeg(path));
+	}
+
+	//Accessors
+	/**
+	 * Gets the number of legs in the graph.
+	 *
+	 * @return an integer with the number of legs.
+	 */
+	public int getLegCount() {
+		return legs.size();
+	}
+	/**
+	 * Gets a leg of the graph.
+	 *
+	 * @param n The index of the leg, starting at 0.
+	 * @return the leg's path.
+	 */
+	public Path getLeg(int n) {
+		return legs.get(n);
+	}
+	/**
+	 * Gets the number of routes through the graph.
+	 *
+	 * @return an integer with the number of routes.
+	 */
+	public int getRouteCount() {
+		return routes.size();
+	}
+	/**
+	 * Gets a route through the graph.
+	 *
+	 * @param n The index of the route, starting at 0.
+	 * @return the route.
+	 */
+	public PathRoute getRoute(int n) {
+		return routes.get(n);
+	}
+
+	//Building
+	/**
+	 * Adds a leg to the graph. Its points shouldn't change once a route uses it.
+	 *
+	 * @param leg The path of the leg, with at least two points.
+	 * @return the index of the new leg.
+	 */
+	public int addLeg(Path leg) {
+		if (leg.getPointCount() < 2)
+			throw new IllegalArgumentException("A leg needs at least 2 points, not " + leg.getPointCount());
+
+		legs.add(leg);
+		return legs.size() - 1;
+	}
+
+	/**
+	 * Adds a route through the given legs, in order. Each leg must start where the one before it ends.
+	 *
+	 * @param legIndices The indices of the legs the route runs through.
+	 * @return the new route.
+	 */
+	public PathRoute addRoute(int... legIndices) {
+		if (legIndices.length == 0)
+			throw new IllegalArgumentException("A route needs at least one leg");
+
+		Path[] routeLegs = new Path[legIndices.length];
+		for (int i = 0; i < legIndices.length; i++) {
+			if (legIndices[i] < 0 || legIndices[i] >= legs.size())
+				throw new IllegalArgumentException("No leg " + legIndices[i] + " in a graph of " + legs.size() + " legs");
+			routeLegs[i] = legs.get(legIndices[i]);
+
+			//Check that this leg carries on from the end of the last one
+			if (i > 0) {
+				Path last = routeLegs[i-1];
+				int end = last.getPointCount() - 1;
+				if (last.getX(end) != routeLegs[i].getX(0) || last.getY(end) != routeLegs[i].getY(0))
+					throw new IllegalArgumentException("Leg " + legIndices[i] + " doesn't start where leg " + legIndices[i-1] + " ends");
+			}
+		}
+
+		PathRoute route = new PathRoute(routes.size(), routeLegs);
+		routes.add(route);
+		return route;
+	}
+
+	/**
+	 * Builds a lookup table for every leg, once per leg however many routes share it. See Path.buildLookupTable().
+	 *
+	 * @param spacing The distance along each leg between samples, in pixels.
+	 */
+	public void buildLookupTables(double spacing) {
+		for (Path leg : legs)
+			leg.buildLookupTable(spacing);
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * PathGraphBenchmark class for timing lookups along the routes of a path graph.
+ * Times single lookups and sorted batches along one route of graphs with more and more branches sharing one trunk, to
+ * show that a route's lookups cost the same however many other branches the graph has.
+ *
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+
+package path;
+
+import java.awt.Point;
+import java.util.Random;
+
+public class PathGraphBenchmark {
+	private static final int QUERIES = 200000;	// Lookups timed per graph
+	private static final int BATCH = 5000;		// Percentages per batch, about a late wave of enemies
+
+	// Sink for results so the lookups can't be optimized away
+	private static long checksum;
+
+	/**
+	 * Runs the benchmark on graphs with more and more branches.
+	 *
+	 * @param args Unused.
+	 */
+	public static void main(String[] args) {
+		System.out.printf("%10s %10s %16s %15s%n", "branches", "legs", "route ns/query", "batch ns/query");
+		int[] branchCounts = {1, 16, 256};
+		for (int branches : branchCounts)
+			benchmark(branches);
+		System.out.println("(checksum " + checksum + ")");
+	}
+
+	/**
+	 * Times lookups along one route of a path graph where every branch has its own spawn leg and all of them merge
+	 * into one shared 10,000-point trunk, the way a multi-lane map does.
+	 *
+	 * @param branches Number of spawn legs, and so of routes.
+	 */
+	private static void benchmark(int branches) {
+		Path trunk = PathBenchmark.generatePath(10000, 42);
+		PathGraph graph = new PathGraph();
+		int trunkLeg = graph.addLeg(trunk);
+		Random rand = new Random(branches);
+		for (int b = 0; b < branches; b++) {
+			Path spawn = new Path();
+			spawn.add(rand.nextInt(600), rand.nextInt(600));
+			spawn.add(trunk.getX(0), trunk.getY(0));
+			graph.addRoute(graph.addLeg(spawn), trunkLeg);
+		}
+		graph.buildLookupTables(1.0);
+		PathRoute route = graph.getRoute(branches/2);
+		
+		//Warm up, then time single lookups in scrambled order and sorted batches
+		double[] percentages = new double[BATCH];
+		int[] xs = new int[BATCH];
+		int[] ys = new int[BATCH];
+		for (int i = 0; i < BATCH; i++)
+			percentages[i] = i/(double) BATCH;
+		Point location = new Point();
+		double single = 0;
+		double batch = 0;
+		for (int run = 0; run < 6; run++) {
+			long start = System.nanoTime();
+			long sum = 0;
+			for (int i = 0; i < QUERIES; i++)
+				sum += route.convertToCoordinates(((i*7919L) % QUERIES)/(double) QUERIES, location).x;
+			single = (System.nanoTime() - start)/(double) QUERIES;
+			
+			start = System.nanoTime();
+			for (int b = 0; b < QUERIES/BATCH; b++) {
+				route.convertToCoordinates(percentages, xs, ys, BATCH);
+				sum += xs[b];
+			}
+			batch = (System.nanoTime() - start)/(double) QUERIES;
+			checksum += sum;
+		}
+		
+		System.out.printf("%10d %10d %16.1f %15.1f%n", branches, graph.getLegCount(), single, batch);
+	}
+	
+}
@@ -0,0 +1,310 @@
+/**
+ * PathIO class for reading and writing Path files.
+ * Supports the original text format (.path: the point count, then one "x y" line per point) and a compact binary
+ * format (.pathb). Binary files are read through a memory-mapped FileChannel, and both formats are written through
+ * a small reused buffer that is flushed whenever it fills, so no copy of the whole file is built in memory.
+ * 
+ * Binary format, all values big-endian 32-bit integers:
+ * magic number "PTHB", format version, point count, then the x and y of each point.
+ * 
+ * Text files may also start with a "spline <spacing>" line. The points that follow are then control points, and the
+ * path loaded is the smooth curve through them built by Path.fromControlPoints().
+ * 
+ * Path graphs (see PathGraph) are text files that start with a "graph" line, then the number of legs and each leg in
+ * the text format (spline legs included), then the number of routes and each route as its leg count and leg indices.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+
+package path;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Scanner;
+
+public class PathIO {
+	public static final String TEXT_EXTENSION = "path";
+	public static final String BINARY_EXTENSION = "pathb";
+	public static final String SPLINE_HEADER = "spline";
+	public static final String GRAPH_HEADER = "graph";
+	
+	private static final int MAGIC = 0x50544842; // "PTHB"
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 12;
+	private static final int BUFFER_SIZE = 64*1024;	// Bytes or characters written out at a time
+	
+	private PathIO() {} // Static methods only
+	
+	/**
+	 * Loads a path from the given file, reading it as binary if its name ends with .pathb and as text otherwise.
+	 * 
+	 * @param file The file to be loaded.
+	 * @return the loaded path.
+	 * @throws IOException if the file can't be read or isn't a valid path file.
+	 */
+	public static Path load(File file) throws IOException {
+		if (isBinary(file))
+			return readBinary(file);
+		return readText(file);
+	}
+	
+	/**
+	 * Saves a path to the given file, writing it as binary if its name ends with .pathb and as text otherwise.
+	 * 
+	 * @param path The path to be saved.
+	 * @param file The file to be written.
+	 * @throws IOException if the file can't be written.
+	 */
+	public static void save(Path path, File file) throws IOException {
+		if (isBinary(file))
+			writeBinary(path, file);
+		else
+			writeText(path, file);
+	}
+	
+	/**
+	 * Checks if the given file is named as a binary path file.
+	 * 
+	 * @param file The file to be checked.
+	 * @return true if the file name ends with .pathb.
+	 */
+	public static boolean isBinary(File file) {
+		return file.getName().endsWith("." + BINARY_EXTENSION);
+	}
+	
+	/*
+	 * Binary format
+	 */
+	
+	/**
+	 * Reads a binary path file by memory mapping it, so the points are read straight from the mapped file.
+	 * 
+	 * @param file The .pathb file to be read.
+	 * @return the loaded path.
+	 * @throws IOException if the file can't be read, or its header or size don't match the format.
+	 */
+	public static Path readBinary(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < HEADER_BYTES)
+				throw new IOException(file + " is too short to be a binary path file");
+			
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			if (buffer.getInt() != MAGIC)
+				throw new IOException(file + " is not a binary path file");
+			int version = buffer.getInt();
+			if (version != VERSION)
+				throw new IOException(file + " has unsupported binary path version " + version);
+			
+			int count = buffer.getInt();
+			if (count < 0 || size != HEADER_BYTES + 8L*count)
+				throw new IOException(file + " should hold " + count + " points but is " + size + " bytes long");
+			
+			Path path = new Path();
+			for (int i = 0; i < count; i++) {
+				int x = buffer.getInt();
+				int y = buffer.getInt();
+				path.add(x, y);
+			}
+			
+			return path;
+		}
+	}
+	
+	/**
+	 * Writes a path to a binary file, filling a buffer with points and writing it to the file each time it is full.
+	 * 
+	 * @param path The path to be written.
+	 * @param file The file to be written.
+	 * @throws IOException if the file can't be written.
+	 */
+	public static void writeBinary(Path path, File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			buffer.putInt(MAGIC);
+			buffer.putInt(VERSION);
+			buffer.putInt(path.getPointCount());
+			
+			for (int i = 0; i < path.getPointCount(); i++) {
+				if (buffer.remaining() < 8)
+					flush(buffer, channel);
+				buffer.putInt(path.getX(i));
+				buffer.putInt(path.getY(i));
+			}
+			flush(buffer, channel);
+		}
+	}
+	
+	/**
+	 * Writes everything in the buffer to the channel and empties the buffer.
+	 */
+	private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+	
+	/*
+	 * Text format
+	 */
+	
+	/**
+	 * Reads a text path file, in the format written by Path.toString().
+	 * 
+	 * @param file The .path file to be read.
+	 * @return the loaded path.
+	 * @throws IOException if the file can't be read.
+	 */
+	public static Path readText(File file) throws IOException {
+		try (Scanner input = new Scanner(file)) {
+			return readText(input);
+		}
+	}
+	
+	/**
+	 * Reads a path in the text format from the given scanner. If the text starts with a spline header, the smooth curve
+	 * through the control points is built and returned.
+	 * 
+	 * @param input A scanner over the text of a path file.
+	 * @return the loaded path.
+	 */
+	public static Path readText(Scanner input) {
+		if (input.hasNext(SPLINE_HEADER)) {
+			input.next();
+			double spacing = Double.parseDouble(input.next());
+			return Path.fromControlPoints(new Path(input), spacing);
+		}
+		
+		return new Path(input);
+	}
+	
+	/**
+	 * Reads a path graph in the text format from the given scanner. Text without a graph header is read as a single
+	 * path and returned as a graph with one leg and one route.
+	 * 
+	 * @param input A scanner over the text of a path or path graph file.
+	 * @return the loaded graph.
+	 */
+	public static PathGraph readGraph(Scanner input) {
+		if (!input.hasNext(GRAPH_HEADER))
+			return new PathGraph(readText(input));
+		input.next();
+		
+		PathGraph graph = new PathGraph();
+		int legCount = input.nextInt();
+		for (int i = 0; i < legCount; i++)
+			graph.addLeg(readText(input));
+		
+		int routeCount = input.nextInt();
+		for (int i = 0; i < routeCount; i++) {
+			int[] legs = new int[input.nextInt()];
+			for (int j = 0; j < legs.length; j++)
+				legs[j] = input.nextInt();
+			graph.addRoute(legs);
+		}
+		
+		return graph;
+	}
+	
+	/**
+	 * Gets the point spacing of a spline text file.
+	 * 
+	 * @param file The file to be checked.
+	 * @return the spacing from the file's spline header, or 0 if it is a binary file or has no spline header.
+	 * @throws IOException if the file can't be read.
+	 */
+	public static double readSplineSpacing(File file) throws IOException {
+		if (isBinary(file))
+			return 0;
+		
+		try (Scanner input = new Scanner(file)) {
+			if (input.hasNext(SPLINE_HEADER)) {
+				input.next();
+				return Double.parseDouble(input.next());
+			}
+			return 0;
+		}
+	}
+	
+	/**
+	 * Reads only the control points of a spline text file, without building the curve through them, so they can be edited.
+	 * Any other path file is loaded as usual.
+	 * 
+	 * @param file The file to be read.
+	 * @return the control points, or the loaded path if the file is not a spline.
+	 * @throws IOException if the file can't be read.
+	 */
+	public static Path readControlPoints(File file) throws IOException {
+		if (isBinary(file))
+			return readBinary(file);
+		
+		try (Scanner input = new Scanner(file)) {
+			if (input.hasNext(SPLINE_HEADER)) {
+				input.next();
+				input.next();
+			}
+			return new Path(input);
+		}
+	}
+	
+	/**
+	 * Writes control points to a text file with a spline header, so the file loads as the smooth curve through them.
+	 * 
+	 * @param controls The control points to be written.
+	 * @param spacing The spacing of the points of the curve built when the file is loaded, in pixels.
+	 * @param file The file to be written.
+	 * @throws IOException if the file can't be written.
+	 */
+	public static void writeSplineText(Path controls, double spacing, File file) throws IOException {
+		try (Writer output = new BufferedWriter(new FileWriter(file))) {
+			output.write(SPLINE_HEADER + " " + spacing + "\n");
+			writeText(controls, output);
+		}
+	}
+	
+	/**
+	 * Writes a path to a text file through a buffered writer, in the same format as Path.toString().
+	 * 
+	 * @param path The path to be written.
+	 * @param file The file to be written.
+	 * @throws IOException if the file can't be written.
+	 */
+	public static void writeText(Path path, File file) throws IOException {
+		try (Writer output = new BufferedWriter(new FileWriter(file))) {
+			writeText(path, output);
+		}
+	}
+	
+	/**
+	 * Writes a path in the text format to the given writer, collecting lines in a buffer and writing it out each time
+	 * it fills up. Does not close the writer.
+	 * 
+	 * @param path The path to be written.
+	 * @param output The writer to write the path to.
+	 * @throws IOException if the writer fails.
+	 */
+	public static void writeText(Path path, Writer output) throws IOException {
+		StringBuilder buffer = new StringBuilder(BUFFER_SIZE + 32);
+		buffer.append(path.getPointCount()).append('\n');
+		
+		for (int i = 0; i < path.getPointCount(); i++) {
+			buffer.append(path.getX(i)).append(' ').append(path.getY(i)).append('\n');
+			
+			if (buffer.length() >= BUFFER_SIZE) {
+				output.append(buffer);
+				buffer.setLength(0);
+			}
+		}
+		output.append(buffer);
+	}
+}
@@ -0,0 +1,148 @@
+/**
+ * PathIOBenchmark class for timing Path file loading and saving.
+ * Compares the original text loader (Scanner) and writer (toString() built with String +=) against the binary
+ * .pathb format and the streaming text writer, on paths from 118 to 1,000,000 points.
+ * Checks that every format reads back the same points. Writes its files to the system temp directory.
+ *
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+
+package path;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.util.Scanner;
+
+public class PathIOBenchmark {
+	private static final int LEGACY_LIMIT = 20000; // The String += writer is quadratic, so it's skipped past this size
+
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args Unused.
+	 * @throws IOException if the temp files can't be written or read.
+	 */
+	public static void main(String[] args) throws IOException {
+		File text = File.createTempFile("benchmark", "." + PathIO.TEXT_EXTENSION);
+		File binary = File.createTempFile("benchmark", "." + PathIO.BINARY_EXTENSION);
+		text.deleteOnExit();
+		binary.deleteOnExit();
+
+		Path gamePath = null;
+		InputStream pathStream = PathIOBenchmark.class.getClassLoader().getResourceAsStream("resources/path.path");
+		if (pathStream != null)
+			gamePath = new Path(new Scanner(pathStream));
+
+		//Warm up every reader and writer
+		Path warmup = PathBenchmark.generatePath(10000, 1);
+		for (int i = 0; i < 5; i++)
+			run(warmup, text, binary, false);
+
+		System.out.printf("%10s %12s %12s %12s %12s %12s %12s %12s%n", "points", "+= write ms", "text ms",
+				"stream ms", "binary ms", "Scanner ms", "mmap ms", "binary size");
+		if (gamePath != null)
+			run(gamePath, text, binary, true);
+		int[] sizes = {1000, 10000, 100000, 1000000};
+		for (int size : sizes)
+			run(PathBenchmark.generatePath(size, 42), text, binary, true);
+	}
+
+	/**
+	 * Writes and reads the path in every format, checking that each read gives back the same points.
+	 *
+	 * @param path The path to be written and read.
+	 * @param text Temp file for the text format.
+	 * @param binary Temp file for the binary format.
+	 * @param print true to print the timings.
+	 * @throws IOException if the temp files can't be written or read.
+	 */
+	private static void run(Path path, File text, File binary, boolean print) throws IOException {
+		int n = path.getPointCount();
+
+		//Original writer: the whole file built with String +=, then printed
+		double legacyWrite = Double.NaN;
+		if (n <= LEGACY_LIMIT) {
+			long start = System.nanoTime();
+			writeString(legacyToString(path), text);
+			legacyWrite = millisSince(start);
+		}
+
+		//Path.toString() built with a StringBuilder, then printed
+		long start = System.nanoTime();
+		writeString(path.toString(), text);
+		double textWrite = millisSince(start);
+
+		//Streaming text writer
+		start = System.nanoTime();
+		PathIO.writeText(path, text);
+		double streamWrite = millisSince(start);
+
+		//Binary writer
+		start = System.nanoTime();
+		PathIO.writeBinary(path, binary);
+		double binaryWrite = millisSince(start);
+
+		//Original loader
+		start = System.nanoTime();
+		Path fromText;
+		try (Scanner input = new Scanner(text)) {
+			fromText = new Path(input);
+		}
+		double scannerRead = millisSince(start);
+
+		//Memory-mapped binary loader
+		start = System.nanoTime();
+		Path fromBinary = PathIO.readBinary(binary);
+		double binaryRead = millisSince(start);
+
+		checkSame(path, fromText);
+		checkSame(path, fromBinary);
+
+		if (print)
+			System.out.printf("%10d %12.2f %12.2f %12.2f %12.2f %12.2f %12.2f %12d%n", n, legacyWrite, textWrite,
+					streamWrite, binaryWrite, scannerRead, binaryRead, binary.length());
+	}
+
+	/**
+	 * The original Path.toString(), which builds the file with String += and so copies it once per point.
+	 *
+	 * @param path The path to be converted.
+	 * @return the path in the text format.
+	 */
+	private static String legacyToString(Path path) {
+		String tempString = path.getPointCount() + "\n";
+		for (int i = 0; i < path.getPointCount(); i++)
+			tempString += path.getX(i) + " " + path.getY(i) + "\n";
+
+		return tempString;
+	}
+
+	/**
+	 * Writes a whole string to a file in one go, the way PathEditor used to save paths.
+	 */
+	private static void writeString(String contents, File file) throws FileNotFoundException {
+		try (PrintWriter output = new PrintWriter(file)) {
+			output.print(contents);
+		}
+	}
+
+	/**
+	 * Throws an exception if the two paths don't have the same points.
+	 */
+	private static void checkSame(Path expected, Path actual) {
+		if (expected.getPointCount() != actual.getPointCount())
+			throw new IllegalStateException("Read " + actual.getPointCount() + " points, expected " + expected.getPointCount());
+
+		for (int i = 0; i < expected.getPointCount(); i++)
+			if (expected.getX(i) != actual.getX(i) || expected.getY(i) != actual.getY(i))
+				throw new IllegalStateException("Point " + i + " was read back wrong");
+	}
+
+	private static double millisSince(long start) {
+		return (System.nanoTime() - start)/1e6;
+	}
+}
@@ -0,0 +1,171 @@
+/**
+ * PathRoute class for one way through a PathGraph, from a spawn point to an end point.
+ * A route is a list of legs joined end to start. The legs are shared with the graph and with every other route that
+ * uses them, so only the route's cumulative leg lengths are stored here. Percentages are measured along the whole route.
+ * A position is found by a binary search over the route's leg lengths, then a lookup on that leg, so a lookup costs the
+ * same however many other branches the graph has.
+ *
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+
+package path;
+
+import java.awt.Point;
+
+public class PathRoute {
+	//Fields
+	private int index;				// Position of this route in its graph
+	private Path[] legs;
+	private double[] legStarts;		// legStarts[i] is the length of the route up to the start of leg i, with the total length last
+	private Point scratch;			// Reused by the batch lookup
+
+	/**
+	 * Creates a route through the given legs. Routes are made by PathGraph.addRoute(), which checks that the legs join.
+	 *
+	 * @param index The route's position in its graph.
+	 * @param legs The legs of the route, in order.
+	 */
+	PathRoute(int index, Path[] legs) {
+		this.index = index;
+		this.legs = legs;
+		scratch = new Point();
+
+		legStarts = new double[legs.length + 1];
+		for (int i = 0; i < legs.length; i++)
+			legStarts[i+1] = legStarts[i] + legs[i].getTotalLength();
+	}
+
+	//Accessors
+	/**
+	 * Gets the position of this route in its graph.
+	 *
+	 * @return the route's index, from 0.
+	 */
+	public int getIndex() {
+		return index;
+	}
+	/**
+	 * Gets the number of legs in the route.
+	 *
+	 * @return an integer with the number of legs.
+	 */
+	public int getLegCount() {
+		return legs.length;
+	}
+	/**
+	 * Gets a leg of the route. The leg is shared with the graph, so it shouldn't be changed.
+	 *
+	 * @param n The index of the leg along the route, starting at 0.
+	 * @return the leg's path.
+	 */
+	public Path getLeg(int n) {
+		return legs[n];
+	}
+	/**
+	 * Gets the total length of the route.
+	 *
+	 * @return the total length of every leg.
+	 */
+	public double getTotalLength() {
+		return legStarts[legs.length];
+	}
+
+	//Lookups
+	/**
+	 * Takes the percentage along the route and returns a point value associated with that location.
+	 * Behaves like Path.convertToCoordinates() over the whole route.
+	 *
+	 * @param percentTraveled Percent distance traveled along the route. Should be a double between 0.0 and 1.0.
+	 * @return The coordinate point of the location that corresponds to the percentage distance traveled.
+	 */
+	public Point convertToCoordinates(double percentTraveled) {
+		return convertToCoordinates(percentTraveled, new Point());
+	}
+
+	/**
+	 * Takes the percentage along the route and stores the point value associated with that location in the given point.
+	 *
+	 * @param percentTraveled Percent distance traveled along the route. Should be a double between 0.0 and 1.0.
+	 * @param location The point to store the location in. Its previous value is overwritten.
+	 * @return The location point passed in, now holding the coordinates that correspond to the percentage distance traveled.
+	 */
+	public Point convertToCoordinates(double percentTraveled, Point location) {
+		//A route with one leg is just that path, so pass the percentage straight through to get exactly its positions
+		if (legs.length == 1)
+			return legs[0].convertToCoordinates(percentTraveled, location);
+
+		int leg = findLeg(percentTraveled*getTotalLength());
+		return legs[leg].convertToCoordinates(legPercentage(leg, percentTraveled), location);
+	}
+
+	/**
+	 * Converts many percentages at once, storing the x and y values of each location in the given arrays.
+	 * The percentages should be sorted from least to greatest, so the leg only ever moves forward.
+	 * Not safe to call from more than one thread at once.
+	 *
+	 * @param percentages Percent distances traveled along the route, sorted from least to greatest.
+	 * @param outX The array to store each location's x value in, at the same index as its percentage.
+	 * @param outY The array to store each location's y value in, at the same index as its percentage.
+	 * @param count The number of percentages to convert, starting from index 0.
+	 */
+	public void convertToCoordinates(double[] percentages, int[] outX, int[] outY, int count) {
+		if (legs.length == 1) {
+			legs[0].convertToCoordinates(percentages, outX, outY, count);
+			return;
+		}
+
+		int leg = 0;
+		int lastLeg = legs.length - 1;
+		for (int k = 0; k < count; k++) {
+			double distance = percentages[k]*getTotalLength();
+
+			//Carry on from the last leg, searching from scratch only if this location is behind it
+			if (leg > 0 && distance <= legStarts[leg])
+				leg = findLeg(distance);
+			while (leg < lastLeg && legStarts[leg+1] < distance)
+				leg++;
+
+			legs[leg].convertToCoordinates(legPercentage(leg, percentages[k]), scratch);
+			outX[k] = scratch.x;
+			outY[k] = scratch.y;
+		}
+	}
+
+	/**
+	 * Finds the first leg whose end is at or past the given distance along the route, using binary search.
+	 * Distances past the end of the route return the last leg.
+	 *
+	 * @param distance The distance along the route, from its start.
+	 * @return The index of the leg along the route.
+	 */
+	public int findLeg(double distance) {
+		int low = 0;
+		int high = legs.length - 1;
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (legStarts[mid+1] >= distance)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+
+		return low;
+	}
+
+	/**
+	 * Converts a percentage along the route into the percentage along one of its legs.
+	 * Percentages before the start or past the end of the route are passed through, so the leg clamps them to its ends.
+	 */
+	private double legPercentage(int leg, double percentTraveled) {
+		if (percentTraveled < 0 || percentTraveled > 1)
+			return percentTraveled;
+
+		double length = legs[leg].getTotalLength();
+		if (length == 0)
+			return 0;
+
+		return (percentTraveled*getTotalLength() - legStarts[leg])/length;
+	}
+}
@@ -0,0 +1,554 @@
+/**
+ * PathValidation class for checking a Path for problems before it is used.
+ * Finds degenerate segments (consecutive points in the same place, which have no length) and segments that cross or
+ * touch segments other than their neighbours. Segments that meet at a shared point are found by hashing the points,
+ * overlapping vertical segments by sorting them, and all other crossings with a Shamos-Hoey sweep line, each in
+ * O(n log n) time. Each sweep stops at the first crossing it finds,
+ * so after each crossing the later segment is set aside and the sweep is run again, up to a limit on the number of
+ * crossings reported.
+ *
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+
+package path;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+public class PathValidation {
+	public static final int DEFAULT_MAX_INTERSECTIONS = 20;
+	private static final int NEAREST = 3; //Segments checked on each side in the sweep order
+
+	//Results
+	private List<Integer> degenerateSegments;
+	private List<int[]> intersections;
+	private boolean truncated; //True if there may be more crossings than were reported
+
+	//Sweep fields
+	private Path path;
+	private int[] order; //Position of each segment among the segments with length, so segments joined by degenerate ones are neighbours
+	private int sweepX;
+	private boolean beforeSweep; //True to order segments just left of sweepX, false to order them just right of it
+
+	/**
+	 * Checks the given path, reporting up to DEFAULT_MAX_INTERSECTIONS crossings.
+	 *
+	 * @param path The path to be checked.
+	 * @return the problems found in the path.
+	 */
+	public static PathValidation check(Path path) {
+		return check(path, DEFAULT_MAX_INTERSECTIONS);
+	}
+
+	/**
+	 * Checks the given path for degenerate segments and crossings.
+	 *
+	 * @param path The path to be checked.
+	 * @param maxIntersections The most crossings to report. Each one reported costs another sweep of the path.
+	 * @return the problems found in the path.
+	 */
+	public static PathValidation check(Path path, int maxIntersections) {
+		PathValidation validation = new PathValidation(path);
+		validation.findDegenerateSegments();
+		validation.findIntersections(maxIntersections);
+
+		return validation;
+	}
+
+	private PathValidation(Path path) {
+		this.path = path;
+		degenerateSegments = new ArrayList<Integer>();
+		intersections = new ArrayList<int[]>();
+	}
+
+	//Accessors
+	/**
+	 * Checks if the path has no problems.
+	 *
+	 * @return true if no degenerate segments or crossings were found.
+	 */
+	public boolean isValid() {
+		return degenerateSegments.isEmpty() && intersections.isEmpty();
+	}
+	/**
+	 * Gets the indices of the segments with no length. Segment i runs from point i to point i+1.
+	 *
+	 * @return a read-only list of segment indices, in order.
+	 */
+	public List<Integer> getDegenerateSegments() {
+		return Collections.unmodifiableList(degenerateSegments);
+	}
+	/**
+	 * Gets the pairs of segments that cross or touch, other than neighbouring segments meeting at their shared point.
+	 *
+	 * @return a read-only list of segment index pairs, each with the lower index first.
+	 */
+	public List<int[]> getIntersections() {
+		return Collections.unmodifiableList(intersections);
+	}
+	/**
+	 * Checks if the crossing limit was reached, in which case the path may have more crossings than were reported.
+	 *
+	 * @return true if there may be unreported crossings.
+	 */
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * Describes every problem found, one per line.
+	 */
+	@Override
+	public String toString() {
+		if (isValid())
+			return "No problems found.";
+
+		StringBuilder report = new StringBuilder();
+		for (int segment : degenerateSegments)
+			report.append("Segment ").append(segment).append(" has no length (points ").append(segment).append(" and ")
+					.append(segment + 1).append(" are the same)\n");
+		for (int[] pair : intersections)
+			report.append("Segments ").append(pair[0]).append(" and ").append(pair[1]).append(" cross\n");
+		if (truncated)
+			report.append("(stopped after ").append(intersections.size()).append(" crossings; there may be more)\n");
+
+		return report.toString();
+	}
+
+	//Checks
+	/**
+	 * Finds every segment whose two points are the same.
+	 */
+	private void findDegenerateSegments() {
+		for (int i = 0; i < path.getPointCount() - 1; i++)
+			if (path.getX(i) == path.getX(i+1) && path.getY(i) == path.getY(i+1))
+				degenerateSegments.add(i);
+	}
+
+	/**
+	 * Sweeps the path for crossings until none are left or the limit is reached, setting aside the later segment of each
+	 * crossing found so the next sweep can find a different one. Degenerate segments are left out of the sweep.
+	 */
+	private void findIntersections(int maxIntersections) {
+		int segments = Math.max(0, path.getPointCount() - 1);
+		boolean[] excluded = new boolean[segments];
+		for (int segment : degenerateSegments)
+			excluded[segment] = true;
+		order = new int[segments];
+		for (int s = 1; s < segments; s++)
+			order[s] = excluded[s-1] ? order[s-1] : order[s-1] + 1;
+
+		//Segments meeting at a point that appears more than once in the path. The sweep removes segments ending at an x
+		//before adding those starting there, so it would miss a segment that starts where another ends.
+		//A run of repeated points counts as one visit, met by the segment before the run and the segment after it. Each
+		//visit is compared with the first and the latest earlier visit to the same point.
+		Map<Long,int[]> seen = new HashMap<Long,int[]>();
+		for (int k = 0; k < path.getPointCount(); k++) {
+			int end = k;
+			while (end + 1 < path.getPointCount() && path.getX(end+1) == path.getX(k) && path.getY(end+1) == path.getY(k))
+				end++;
+			int in = k - 1;
+			int out = end;
+			k = end;
+
+			long key = ((long) path.getX(k) << 32) | (path.getY(k) & 0xffffffffL);
+			int[] earlier = seen.get(key);
+			if (earlier == null) {
+				seen.put(key, new int[] {in, out, in, out});
+				continue;
+			}
+
+			int[] pair = sharedPointPair(earlier[0], earlier[1], in, out, excluded);
+			if (pair == null)
+				pair = sharedPointPair(earlier[2], earlier[3], in, out, excluded);
+			earlier[2] = in;
+			earlier[3] = out;
+			if (pair == null)
+				continue;
+			if (intersections.size() == maxIntersections) {
+				truncated = true;
+				return;
+			}
+			intersections.add(pair);
+			excluded[pair[1]] = true;
+		}
+
+		while (true) {
+			int[] pair = findVerticalOverlap(excluded);
+			if (pair == null)
+				pair = sweep(excluded);
+			if (pair == null)
+				return;
+			if (intersections.size() == maxIntersections) {
+				truncated = true;
+				return;
+			}
+
+			intersections.add(pair);
+			excluded[pair[1]] = true;
+		}
+	}
+
+	/**
+	 * Finds two segments that meet at a point the path visits twice. Each visit is met by the segment coming in and the
+	 * segment going out, either of which may be missing at the ends of the path.
+	 *
+	 * @return the first pair of segments that aren't neighbours or set aside, lower index first, or null if there is none.
+	 */
+	private int[] sharedPointPair(int firstIn, int firstOut, int secondIn, int secondOut, boolean[] excluded) {
+		int[] firsts = {firstIn, firstOut};
+		int[] seconds = {secondIn, secondOut};
+		for (int a : firsts)
+			for (int b : seconds)
+				if (a >= 0 && b < excluded.length && !neighbours(a, b) && !excluded[a] && !excluded[b])
+					return new int[] {a, b};
+
+		return null;
+	}
+
+	/**
+	 * Finds two vertical segments that overlap on the same x. Vertical segments at the same x all lie along the sweep
+	 * line at once, so the sweep can't keep them in order, and they are checked here instead.
+	 *
+	 * @param excluded Segments to leave out.
+	 * @return the first overlap found, lower index first, or null if there are none.
+	 */
+	private int[] findVerticalOverlap(boolean[] excluded) {
+		ArrayList<Integer> verticals = new ArrayList<Integer>();
+		for (int s = 0; s < excluded.length; s++)
+			if (!excluded[s] && path.getX(s) == path.getX(s+1))
+				verticals.add(s);
+
+		//Order by x, then top to bottom
+		Collections.sort(verticals, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				int c = Integer.compare(path.getX(a), path.getX(b));
+				if (c != 0)
+					return c;
+				return Integer.compare(top(a), top(b));
+			}
+		});
+
+		//Keep the three segments above with the lowest bottoms. A segment only neighbours two others, so if it overlaps
+		//any segment it doesn't neighbour, it overlaps one of these.
+		int[] lowest = new int[3];
+		int kept = 0;
+		for (int i = 0; i < verticals.size(); i++) {
+			int s = verticals.get(i);
+			if (i > 0 && path.getX(s) != path.getX(verticals.get(i-1)))
+				kept = 0;
+
+			for (int j = 0; j < kept; j++) {
+				int other = lowest[j];
+				if (bottom(other) >= top(s) && !neighbours(other, s))
+					return new int[] {Math.min(s, other), Math.max(s, other)};
+			}
+
+			//Insert s among the kept segments, lowest bottom first
+			int j = Math.min(kept, lowest.length - 1);
+			if (kept == lowest.length && bottom(lowest[j]) >= bottom(s))
+				continue;
+			while (j > 0 && bottom(lowest[j-1]) < bottom(s)) {
+				lowest[j] = lowest[j-1];
+				j--;
+			}
+			lowest[j] = s;
+			kept = Math.min(kept + 1, lowest.length);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Runs one Shamos-Hoey sweep from left to right, keeping the segments under the sweep line ordered by height.
+	 * Two segments can only cross after being next to each other in that order, so each segment is only checked against
+	 * its neighbours when it is added, and a removed segment's neighbours are checked against each other.
+	 * Neighbouring path segments are never reported, and one may lie between two segments that do cross, so each check
+	 * looks up to three segments on either side: a segment only neighbours two others, so one of three is never its neighbour.
+	 *
+	 * @param excluded Segments to leave out of the sweep.
+	 * @return the first crossing found, lower index first, or null if there are none.
+	 */
+	private int[] sweep(boolean[] excluded) {
+		//Each segment has an event at its left end (added) and its right end (removed), encoded as 2*segment + isRight
+		int count = 0;
+		for (boolean e : excluded)
+			if (!e)
+				count++;
+		Integer[] events = new Integer[2*count];
+		int k = 0;
+		for (int s = 0; s < excluded.length; s++)
+			if (!excluded[s]) {
+				events[k++] = 2*s;
+				events[k++] = 2*s + 1;
+			}
+
+		//Sort events left to right. At the same x, segments ending there are removed before new ones are added. Vertical
+		//segments lie along the sweep line, so they are added before anything is removed and removed after everything is
+		//added, to be compared with every segment that reaches that x.
+		Arrays.sort(events, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				int c = Integer.compare(eventX(a), eventX(b));
+				if (c != 0)
+					return c;
+				c = Integer.compare(eventPhase(a), eventPhase(b));
+				if (c != 0)
+					return c;
+				return Integer.compare(eventY(a), eventY(b));
+			}
+		});
+
+		//Segments under the sweep line, ordered by their height where they cross it
+		TreeSet<Integer> active = new TreeSet<Integer>(new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				if (a.intValue() == b.intValue())
+					return 0;
+				int c = compareHeights(a, b);
+				if (c != 0)
+					return c;
+				
+				//Segments meeting on the sweep line are ordered by where they go on either side of it
+				c = compareSlopes(a, b);
+				if (c != 0)
+					return beforeSweep ? -c : c;
+				return Integer.compare(a, b);
+			}
+		});
+
+		for (Integer event : events) {
+			int segment = event >> 1;
+			sweepX = eventX(event);
+			beforeSweep = eventPhase(event) < 2;
+
+			if ((event & 1) == 0) {
+				active.add(segment);
+				int[] below = nearest(active, segment, false);
+				int[] above = nearest(active, segment, true);
+				for (int i = 0; i < NEAREST; i++) {
+					int[] pair = checkPair(segment, below[i]);
+					if (pair == null)
+						pair = checkPair(segment, above[i]);
+					if (pair != null)
+						return pair;
+				}
+			}
+			else {
+				int[] below = nearest(active, segment, false);
+				int[] above = nearest(active, segment, true);
+				active.remove(segment);
+				for (int b : below)
+					for (int a : above) {
+						int[] pair = checkPair(b, a);
+						if (pair != null)
+							return pair;
+					}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the segments nearest to the given one in the sweep order, on one side.
+	 *
+	 * @return the NEAREST closest segments, closest first, padded with -1 if there are fewer.
+	 */
+	private static int[] nearest(TreeSet<Integer> active, int segment, boolean above) {
+		int[] found = new int[NEAREST];
+		Integer next = segment;
+		for (int i = 0; i < NEAREST; i++) {
+			if (next != null)
+				next = above ? active.higher(next) : active.lower(next);
+			found[i] = next == null ? -1 : next;
+		}
+
+		return found;
+	}
+
+	/**
+	 * Checks two segments for a crossing, ignoring neighbouring segments, which always share a point.
+	 *
+	 * @return the pair, lower index first, if they cross, or null if they don't or either is missing (-1).
+	 */
+	private int[] checkPair(int a, int b) {
+		if (a < 0 || b < 0 || neighbours(a, b))
+			return null;
+		if (!segmentsIntersect(a, b))
+			return null;
+
+		return new int[] {Math.min(a, b), Math.max(a, b)};
+	}
+
+	/**
+	 * Checks if two segments follow one another in the path, skipping any degenerate segments between them.
+	 */
+	private boolean neighbours(int a, int b) {
+		return Math.abs(order[a] - order[b]) <= 1;
+	}
+
+	/**
+	 * Checks if two segments share any point, using exact integer orientation tests.
+	 */
+	private boolean segmentsIntersect(int a, int b) {
+		int ax1 = path.getX(a), ay1 = path.getY(a), ax2 = path.getX(a+1), ay2 = path.getY(a+1);
+		int bx1 = path.getX(b), by1 = path.getY(b), bx2 = path.getX(b+1), by2 = path.getY(b+1);
+
+		long d1 = orientation(bx1, by1, bx2, by2, ax1, ay1);
+		long d2 = orientation(bx1, by1, bx2, by2, ax2, ay2);
+		long d3 = orientation(ax1, ay1, ax2, ay2, bx1, by1);
+		long d4 = orientation(ax1, ay1, ax2, ay2, bx2, by2);
+
+		//Each segment's ends are on opposite sides of the other
+		if (Long.signum(d1)*Long.signum(d2) < 0 && Long.signum(d3)*Long.signum(d4) < 0)
+			return true;
+
+		//An end lies on the other segment
+		return (d1 == 0 && onSegment(bx1, by1, bx2, by2, ax1, ay1)) || (d2 == 0 && onSegment(bx1, by1, bx2, by2, ax2, ay2))
+				|| (d3 == 0 && onSegment(ax1, ay1, ax2, ay2, bx1, by1)) || (d4 == 0 && onSegment(ax1, ay1, ax2, ay2, bx2, by2));
+	}
+
+	/**
+	 * Gets which side of the line from (x1, y1) to (x2, y2) the point (px, py) is on: positive, negative, or 0 if on the line.
+	 */
+	private static long orientation(int x1, int y1, int x2, int y2, int px, int py) {
+		return (long)(x2 - x1)*(py - y1) - (long)(y2 - y1)*(px - x1);
+	}
+
+	/**
+	 * Checks if a point on the line through a segment lies within the segment's bounding box, and so on the segment.
+	 */
+	private static boolean onSegment(int x1, int y1, int x2, int y2, int px, int py) {
+		return px >= Math.min(x1, x2) && px <= Math.max(x1, x2) && py >= Math.min(y1, y2) && py <= Math.max(y1, y2);
+	}
+
+	//Sweep helpers
+	/**
+	 * Gets the x of an event: the left end of the segment for an addition, the right end for a removal.
+	 */
+	private int eventX(int event) {
+		int s = event >> 1;
+		int x1 = path.getX(s);
+		int x2 = path.getX(s+1);
+		return (event & 1) == 0 ? Math.min(x1, x2) : Math.max(x1, x2);
+	}
+
+	/**
+	 * Gets the order of an event among events at the same x: vertical additions, removals, additions, then vertical removals.
+	 */
+	private int eventPhase(int event) {
+		int s = event >> 1;
+		boolean vertical = path.getX(s) == path.getX(s+1);
+		if ((event & 1) == 0)
+			return vertical ? 0 : 2;
+		else
+			return vertical ? 3 : 1;
+	}
+
+	/**
+	 * Gets the y of an event's point. Vertical segments add at their top and remove at their bottom.
+	 */
+	private int eventY(int event) {
+		int s = event >> 1;
+		int x1 = path.getX(s), y1 = path.getY(s), x2 = path.getX(s+1), y2 = path.getY(s+1);
+		if (x1 == x2)
+			return (event & 1) == 0 ? Math.min(y1, y2) : Math.max(y1, y2);
+
+		boolean firstIsLeft = x1 < x2;
+		if ((event & 1) == 0)
+			return firstIsLeft ? y1 : y2;
+		return firstIsLeft ? y2 : y1;
+	}
+
+	/**
+	 * Gets the smaller y of a segment's ends.
+	 */
+	private int top(int s) {
+		return Math.min(path.getY(s), path.getY(s+1));
+	}
+
+	/**
+	 * Gets the larger y of a segment's ends.
+	 */
+	private int bottom(int s) {
+		return Math.max(path.getY(s), path.getY(s+1));
+	}
+
+	/**
+	 * Compares the heights of two segments where they cross the sweep line. Vertical segments use their top.
+	 * Heights are compared as exact fractions, since rounding could put segments that meet on the sweep line out of order.
+	 * Exact for coordinates up to about a billion.
+	 */
+	private int compareHeights(int a, int b) {
+		return compareFractions(heightNumerator(a), width(a), heightNumerator(b), width(b));
+	}
+
+	/**
+	 * Compares how steeply two segments climb from left to right. Vertical segments are steepest.
+	 */
+	private int compareSlopes(int a, int b) {
+		boolean aVertical = path.getX(a) == path.getX(a+1);
+		boolean bVertical = path.getX(b) == path.getX(b+1);
+		if (aVertical || bVertical)
+			return Boolean.compare(aVertical, bVertical);
+
+		return compareFractions(rise(a), width(a), rise(b), width(b));
+	}
+
+	/**
+	 * Gets the height of a segment at the sweep line times its width, or the top of a vertical segment.
+	 */
+	private long heightNumerator(int s) {
+		int left = leftEnd(s);
+		int right = left == s ? s+1 : s;
+		if (path.getX(left) == path.getX(right))
+			return top(s);
+
+		return (long) path.getY(left)*width(s) + rise(s)*(sweepX - path.getX(left));
+	}
+
+	/**
+	 * Gets how far a segment runs from left to right, or 1 for a vertical segment.
+	 */
+	private long width(int s) {
+		return Math.max(1, Math.abs(path.getX(s+1) - path.getX(s)));
+	}
+
+	/**
+	 * Gets how far a segment climbs from its left end to its right end.
+	 */
+	private long rise(int s) {
+		int left = leftEnd(s);
+		int right = left == s ? s+1 : s;
+		return (long) path.getY(right) - path.getY(left);
+	}
+
+	/**
+	 * Gets the index of the point at the left end of a segment.
+	 */
+	private int leftEnd(int s) {
+		return path.getX(s) <= path.getX(s+1) ? s : s+1;
+	}
+
+	/**
+	 * Compares n1/d1 with n2/d2 exactly. Both denominators must be positive.
+	 */
+	private static int compareFractions(long n1, long d1, long n2, long d2) {
+		try {
+			return Long.compare(Math.multiplyExact(n1, d2), Math.multiplyExact(n2, d1));
+		}
+		catch (ArithmeticException e) {
+			return BigInteger.valueOf(n1).multiply(BigInteger.valueOf(d2)).compareTo(BigInteger.valueOf(n2).multiply(BigInteger.valueOf(d1)));
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/**
+ * PlacementMask class for the Tower Defense game.
+ * Holds one bit for every spot a tower of one size could be centered on, set if the tower could be placed there: inside
+ * the game field, with its hitbox clear of the path corridor and its footprint clear of every placed tower.
+ * The mask is worked out once by checking each spot against the path corridor and the placed towers' footprints, then
+ * kept up to date as towers are placed and removed by working out again only the spots around that tower, so checking
+ * a spot is a single bit lookup.
+ * Counts its changes, so anything drawn from the mask knows when to draw it again.
+ *
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import path.BitGrid;
+import path.PathCorridor;
+
+public class PlacementMask {
+	// Sources
+	private State state;			// Asked which ground is covered by placed towers
+	private PathCorridor corridor;
+
+	// Tower size fields
+	private int towerWidth;
+	private int towerHeight;
+
+	// Mask fields
+	private int fieldWidth;
+	private int fieldHeight;
+	private BitGrid valid;			// Bit (x, y) is set if a tower centered at (x, y) can be placed
+	private int version;			// Goes up every time the mask changes
+
+	/**
+	 * Creates the mask for towers of the given size.
+	 *
+	 * @param state The state object, which knows the ground covered by placed towers.
+	 * @param corridor The area around the path that towers can't cover.
+	 * @param towerWidth The width of the towers.
+	 * @param towerHeight The height of the towers.
+	 */
+	public PlacementMask(State state, PathCorridor corridor, int towerWidth, int towerHeight) {
+		this.state = state;
+		this.corridor = corridor;
+		this.towerWidth = towerWidth;
+		this.towerHeight = towerHeight;
+
+		// Towers can be centered on the far edges of the field, so the mask is one spot wider and taller
+		fieldWidth = corridor.getWidth();
+		fieldHeight = corridor.getHeight();
+		valid = new BitGrid(fieldWidth + 1, fieldHeight + 1);
+
+		refresh(0, 0, fieldWidth, fieldHeight);
+	}
+
+	// Accessors
+
+	/**
+	 * Gets the width of the towers this mask is for.
+	 * @return the tower width, in pixels.
+	 */
+	public int getTowerWidth() { return towerWidth; }
+	/**
+	 * Gets the height of the towers this mask is for.
+	 * @return the tower height, in pixels.
+	 */
+	public int getTowerHeight() { return towerHeight; }
+	/**
+	 * Gets the number of spots across the mask, one more than the width of the field.
+	 * @return the mask width.
+	 */
+	public int getWidth() { return valid.getWidth(); }
+	/**
+	 * Gets the number of spots down the mask, one more than the height of the field.
+	 * @return the mask height.
+	 */
+	public int getHeight() { return valid.getHeight(); }
+	/**
+	 * Gets a count of the changes made to the mask, which goes up every time a tower is placed or removed.
+	 * @return the mask's version.
+	 */
+	public int getVersion() { return version; }
+
+	/**
+	 * Checks if a tower can be placed centered at the given spot.
+	 * @param x The x-coordinate of the tower's center.
+	 * @param y The y-coordinate of the tower's center.
+	 * @return true if the tower would be inside the field and clear of the path and every placed tower.
+	 */
+	public boolean isValid(int x, int y) {
+		return valid.get(x, y);
+	}
+
+	// Update methods
+
+	/**
+	 * Marks every spot where a tower would overlap the given newly placed tower's footprint as invalid.
+	 * Only the spots around the new tower are touched.
+	 * @param t The tower that was placed.
+	 */
+	public void towerPlaced(Tower t) {
+		int left = t.getFootprintLeft() - towerWidth/4;
+		int right = t.getFootprintRight() + towerWidth/4;
+		int top = t.getFootprintTop() - (towerHeight/2 - 5);
+		int bottom = t.getFootprintBottom() + (towerHeight/2 - 5);
+
+		valid.fill(left, top, right, bottom, false);
+		version++;
+	}
+
+	/**
+	 * Works out again every spot where a tower would overlap the given removed tower's footprint. A spot it was blocking
+	 * may still be blocked by another tower or the path, so each one is checked again rather than just set.
+	 * Only the spots around the removed tower are touched.
+	 * @param t The tower that was removed. Its footprint must already be cleared from the state.
+	 */
+	public void towerRemoved(Tower t) {
+		int left = t.getFootprintLeft() - towerWidth/4;
+		int right = t.getFootprintRight() + towerWidth/4;
+		int top = t.getFootprintTop() - (towerHeight/2 - 5);
+		int bottom = t.getFootprintBottom() + (towerHeight/2 - 5);
+
+		refresh(left, top, right, bottom);
+		version++;
+	}
+
+	/**
+	 * Works out every spot in the given rectangle of spots again, checking each one's hitbox against the path corridor
+	 * and its footprint against the placed towers' footprints. Each check only reads the few words of the grid under the
+	 * rectangle it covers, so no copies of the grids are needed.
+	 */
+	private void refresh(int left, int top, int right, int bottom) {
+		left = Math.max(left, 0);
+		top = Math.max(top, 0);
+		right = Math.min(right, fieldWidth);
+		bottom = Math.min(bottom, fieldHeight);
+
+		for (int y = top; y <= bottom; y++)
+			for (int x = left; x <= right; x++)
+				valid.set(x, y, canPlace(x, y));
+	}
+
+	/**
+	 * Checks if a tower centered at the given spot is inside the field, as Tower.isWithinGameField() requires, with its
+	 * hitbox clear of the path corridor and its footprint clear of every placed tower.
+	 */
+	private boolean canPlace(int x, int y) {
+		if (x < towerWidth/2 || x > fieldWidth - towerWidth/2 || y < towerHeight || y > fieldHeight)
+			return false;
+
+		// The hitbox runs x +/- width/4 from y - height + 16 down to y
+		if (corridor.intersects(x - towerWidth/4, y - towerHeight + 16, x + towerWidth/4, y))
+			return false;
+
+		// The footprint runs x +/- width/4 and y +/- (height/2 - 5)
+		return !state.isOccupied(x - towerWidth/4, y - (towerHeight/2 - 5), x + towerWidth/4, y + (towerHeight/2 - 5));
+	}
+}
@@ -0,0 +1,20 @@
+/**
+ * Interface for the classes that draw game objects in the Tower Defense game.
+ * Game objects only hold simulation state, so View keeps a renderer for each kind of object that reads its state and draws it.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.awt.Graphics;
+
+public interface Renderer<T extends GameObject> {
+	/**
+	 * Draws the given game object to the JPanel using its relevant sprite(s).
+	 * 
+	 * @param g Graphics object used to draw the object.
+	 * @param go The game object to be drawn.
+	 */
+	public void draw(Graphics g, T go);
+}
@@ -8,9 +8,11 @@
  */
 package game;
 
+import path.PathRoute;
+
 public class SCargo extends Enemy {
-	public SCargo(State state, Control control) {
-		super(state, control);
+	public SCargo(State state, Control control, PathRoute route) {
+		super(state, control, route);
 		
 		// SCargo default field values
 		speed = 1.0/12.0;
@@ -20,10 +22,9 @@ public class SCargo extends Enemy {
 		scoreValue = 500;
 		attackDamage = 25;
 
-		// Load the image sprite and get its parameters
-		image = control.getImage("s-cargo.png");
-		width = image.getWidth();
-		height = image.getHeight();
+		// Hitbox size, matching the s-cargo.png sprite
+		width = 70;
+		height = 55;
 		
 		// Set draw fields
 		isVisible = true;
@@ -37,6 +38,6 @@ public class SCargo extends Enemy {
 	 */
 	@Override
 	public void addCorpse() {
-		state.addGameObject(new VanCorpse(state, control, loc.x, loc.y));
+		state.getCommands().addGameObject(new VanCorpse(state, control, x, y));
 	}
 }
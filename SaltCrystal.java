@@ -5,25 +5,38 @@
  */
 package game;
 
-import java.awt.Graphics;
-import java.awt.Point;
-
 public class SaltCrystal extends GameObject {
-	// Trajectory fields
-	private Point loc;
-	private int totalDistance;
+	// Trajectory fields - kept as doubles so short ticks don't lose movement to rounding
+	private double x;
+	private double y;
+	private double prevX;		// Location at the previous tick, used to interpolate drawing between ticks
+	private double prevY;
+	private double totalDistance;
 	private double xVelocity;
 	private double yVelocity;
 	private Enemy target;
 	
+	// Staged fields - computed by update() from the last committed state and published by commit()
+	private double nextX;
+	private double nextY;
+	private double nextTotalDistance;
+	private boolean nextExpired;
+	
+	// Size fields - matching the salt_crystals.png sprite
+	private int width = 58;
+	private int height = 58;
+	
 	// Attack fields
 	private int damage;
 
-	public SaltCrystal(State state, Control control, Enemy target, Point origin, double xVelocity, double yVelocity, int damage) {
+	public SaltCrystal(State state, Control control, Enemy target, int originX, int originY, double xVelocity, double yVelocity, int damage) {
 		super(state, control);
 		
 		this.target = target;
-		loc = origin;
+		x = originX;
+		y = originY;
+		prevX = x;
+		prevY = y;
 		totalDistance = 0;
 		this.xVelocity = xVelocity;
 		this.yVelocity = yVelocity;
@@ -33,66 +46,88 @@ public class SaltCrystal extends GameObject {
 		
 		isVisible = true;
 		isExpired = false;
-		
-		image = control.getImage("salt_crystals.png");
 	}
 
 	/**
 	 * Implements GameObject.update().
-	 * Updates the position of the salt crystal and checks if it has collided with an enemy object.
+	 * Works out the next position of the salt crystal and checks if it collides with an enemy object there.
 	 * If it does, it deals its damage to that enemy and despawns.
+	 * The new position is only staged here so that other objects keep seeing where the crystal was at the last tick.
 	 */
 	@Override
 	public void update(double elapsedTime) {
-		double dx = xVelocity*state.getElapsedTime();
-		double dy = yVelocity*state.getElapsedTime();
+		double dx = xVelocity*elapsedTime;
+		double dy = yVelocity*elapsedTime;
 		
 		double dist = Math.pow(dx*dx + dy*dy, 0.5);
 		
-		totalDistance += (int) dist;
-		loc.x = loc.x + (int) dx;
-		loc.y = loc.y + (int) dy;
+		nextTotalDistance = totalDistance + dist;
+		nextX = x + dx;
+		nextY = y + dy;
 		
 		// If crystal travels too far, despawn it
-		if (totalDistance > 300) {
-			isVisible = false;
-			isExpired = true;
-		}
+		if (nextTotalDistance > 300)
+			nextExpired = true;
 		
 		// Check all enemy objects for collision, then deal damage to the first one it collides with
-		for (GameObject go : state.getFrameObjects()) {
-			if (go instanceof Enemy) {
-				Enemy e = (Enemy) go;
-				
-				// Check if any corner is within the hitbox
-				int left = loc.x - image.getWidth()/2;
-				int right = loc.x + image.getWidth()/2;
-				int top = loc.y - image.getHeight()/2;
-				int bottom = loc.y + image.getHeight()/2;
-				
-				boolean hit = e.isWithinHitbox(left, top) || e.isWithinHitbox(left, bottom) ||
-						e.isWithinHitbox(right, top) || e.isWithinHitbox(right, bottom) ||
-						e.isWithinHitbox(loc.x, loc.y);
-				if (hit) dealDamage(e);
-			}
+		int locX = (int) nextX;
+		int locY = (int) nextY;
+		for (Enemy e : state.getEnemies()) {
+			// Check if any corner is within the hitbox
+			int left = locX - width/2;
+			int right = locX + width/2;
+			int top = locY - height/2;
+			int bottom = locY + height/2;
+			
+			boolean hit = e.isWithinHitbox(left, top) || e.isWithinHitbox(left, bottom) ||
+					e.isWithinHitbox(right, top) || e.isWithinHitbox(right, bottom) ||
+					e.isWithinHitbox(locX, locY);
+			if (hit) dealDamage(e);
 		}
-
 	}
 	
 	/**
-	 * Implements GameObject.draw().
-	 * Draws the crystal at its given location.
+	 * The commit override function for the salt crystal class.
+	 * Moves the crystal to the position staged by update(), remembering where it was for interpolation, and despawns it
+	 * if it hit an enemy or flew too far.
 	 */
 	@Override
-	public void draw(Graphics g) {
-		g.drawImage(image, loc.x - image.getWidth()/2, loc.y - image.getHeight()/2, null);
+	public void commit() {
+		prevX = x;
+		prevY = y;
+		x = nextX;
+		y = nextY;
+		totalDistance = nextTotalDistance;
+		
+		if (nextExpired) {
+			isExpired = true;
+			isVisible = false;
+		}
 	}
 	
 	/**
-	 * Gets the location of the center of the salt crystal.
-	 * @return the point object with the x and y coordinates of the crystal.
+	 * Gets the x-coordinate of the center of the salt crystal.
+	 * @return the crystal's x-coordinate.
+	 */
+	public double getX() { return x; }
+	
+	/**
+	 * Gets the y-coordinate of the center of the salt crystal.
+	 * @return the crystal's y-coordinate.
+	 */
+	public double getY() { return y; }
+	
+	/**
+	 * Gets the x-coordinate of the center of the salt crystal at the previous tick.
+	 * @return the crystal's x-coordinate one tick ago.
+	 */
+	public double getPrevX() { return prevX; }
+	
+	/**
+	 * Gets the y-coordinate of the center of the salt crystal at the previous tick.
+	 * @return the crystal's y-coordinate one tick ago.
 	 */
-	public Point getLoc() { return loc; }
+	public double getPrevY() { return prevY; }
 	
 	/**
 	 * Gets the enemy that this projectile is targeting, for AI purposes.
@@ -110,13 +145,13 @@ public class SaltCrystal extends GameObject {
 	public int getDamage() { return damage; }
 	
 	/**
-	 * Deals the projectile's damage to the enemy object that it impacts with, then despawns the projectile.
+	 * Deals the projectile's damage to the enemy object that it impacts with, then despawns the projectile once the tick
+	 * is committed.
 	 * 
 	 * @param e The enemy object to be damaged
 	 */
 	public void dealDamage(Enemy e) {
-		e.damage(damage);
-		isExpired = true;
-		isVisible = false;
+		state.getCommands().damageEnemy(e, damage);
+		nextExpired = true;
 	}
 }
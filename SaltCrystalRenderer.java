@@ -0,0 +1,39 @@
+/**
+ * SaltCrystalRenderer class, an implementation of the Renderer interface for SaltCrystal objects.
+ * Draws the crystal's sprite about its center.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+public class SaltCrystalRenderer implements Renderer<SaltCrystal> {
+	private State state;
+	private BufferedImage image;
+	
+	/**
+	 * Creates a renderer that draws salt crystals with the given sprite.
+	 * 
+	 * @param state The state object, used to interpolate between ticks.
+	 * @param image The crystal's sprite.
+	 */
+	public SaltCrystalRenderer(State state, BufferedImage image) {
+		this.state = state;
+		this.image = image;
+	}
+	
+	/**
+	 * Draws the crystal at its location, interpolated between the previous and current tick.
+	 */
+	@Override
+	public void draw(Graphics g, SaltCrystal sc) {
+		double alpha = state.getRenderAlpha();
+		int x = (int) (sc.getPrevX() + (sc.getX() - sc.getPrevX())*alpha);
+		int y = (int) (sc.getPrevY() + (sc.getY() - sc.getPrevY())*alpha);
+		
+		g.drawImage(image, x - image.getWidth()/2, y - image.getHeight()/2, null);
+	}
+}
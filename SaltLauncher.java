@@ -1,6 +1,6 @@
 /**
  * SaltLauncher class, a subclass of GameObject that implements the Purchasable interface.
- * Implements GameObject update() and draw() methods.
+ * Implements the GameObject update() method.
  * Implements Purchaseable canAfford() and chargeUser() methods.
  * Represents a salt-launching defense tower to attack the enemy snail army as it tries to attack the user.
  * 
@@ -9,15 +9,12 @@
  */
 package game;
 
-import java.awt.Graphics;
-import java.awt.image.BufferedImage;
-
 public class SaltLauncher extends GameObject implements Purchasable,
 														Clickable
 														{
 	private boolean isMoving; // Is tower selected or placed?
 	
-	// Drawing fields
+	// Location and size fields
 	private int x;
 	private int y;
 	private int width;
@@ -58,6 +55,10 @@ public class SaltLauncher extends GameObject implements Purchasable,
 		
 		x = control.getX();
 		y = control.getY();
+		
+		// Tower size, matching the salt.png sprite
+		width = 52;
+		height = 60;
 	}
 	
 	/**
@@ -88,22 +89,10 @@ public class SaltLauncher extends GameObject implements Purchasable,
 			y = control.getY();
 		}
 		// Otherwise, check if the tower is ready to attack
-		else if (timeOfLastAttack - System.currentTimeMillis()/1000d > attackTime)
+		else if (timeOfLastAttack - state.getClock().getTime() > attackTime)
 			canAttack = true;
 	}
 	
-	/**
-	 * Draws the tower's sprite at the given location, adjusted so the center of the base is at the user's mouse point.
-	 */
-	@Override
-	public void draw(Graphics g) {
-		BufferedImage image = control.getImage("salt.png");
-		width = image.getWidth();
-		height = image.getHeight();
-		
-		g.drawImage(image, x - width/2, y - height, null);
-	}
-
 	/**
 	 * Gets the tower's height.
 	 * @return tower height.
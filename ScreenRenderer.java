@@ -0,0 +1,32 @@
+/**
+ * ScreenRenderer class, an implementation of the Renderer interface for objects drawn as a single image over the game field.
+ * Used for the background and the game over screen.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+public class ScreenRenderer implements Renderer<GameObject> {
+	private BufferedImage image;
+	
+	/**
+	 * Creates a renderer that draws the given image from the top-left corner of the game field.
+	 * 
+	 * @param image The image to be drawn.
+	 */
+	public ScreenRenderer(BufferedImage image) {
+		this.image = image;
+	}
+	
+	/**
+	 * Draws the image from the top-left corner of the game field.
+	 */
+	@Override
+	public void draw(Graphics g, GameObject go) {
+		g.drawImage(image, 0, 0, null);
+	}
+}
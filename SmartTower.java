@@ -1,6 +1,6 @@
 /**
  * SmartTower class, a subclass of the Tower class.
- * Overrides GameObject update() and draw() methods.
+ * Overrides GameObject update() method.
  * Represents a salt-launching defense tower with smart tower AI.
  * Will 
  * 
@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class SmartTower extends Tower {
+	private Point futurePoint;	// Reused for every targeting prediction
 
 	public SmartTower(State state, Control control) {
 		super(state, control);
@@ -36,10 +37,10 @@ public class SmartTower extends Tower {
 			isExpired = true;
 		}
 		
-		// Draw image and get its parameters
-		image = control.getImage("dumb_tower.png");
-		width = image.getWidth();
-		height = image.getHeight();
+		// Tower size, matching the dumb_tower.png sprite
+		width = 52;
+		height = 60;
+		futurePoint = new Point();
 	}
 
 	/**
@@ -59,16 +60,16 @@ public class SmartTower extends Tower {
 		double timeToEnemy = dist/(double)projectileSpeed;
 		
 		double futurePercentage = e.getPercentage() + e.getSpeed()*timeToEnemy;
-		Point futurePoint = control.getPath().convertToCoordinates(futurePercentage);
+		e.getRoute().convertToCoordinates(futurePercentage, futurePoint);
 		
-		double unitX = (futurePoint.getX() - this.loc.x)/dist;
-		double unitY = (futurePoint.getY() - (this.loc.y - 3*height/4))/dist;
+		double unitX = (futurePoint.getX() - this.x)/dist;
+		double unitY = (futurePoint.getY() - (this.y - 3*height/4))/dist;
 		
 		double xVel = unitX*projectileSpeed;
 		double yVel = unitY*projectileSpeed;
 		
 		// Generate a projectile
-		state.addGameObject(new SaltCrystal(state, control, e, new Point(loc.x, loc.y - 3*height/4), xVel, yVel, attackDamage));
+		state.getCommands().addGameObject(new SaltCrystal(state, control, e, x, y - 3*height/4, xVel, yVel, attackDamage));
 		
 		// Reset attack statistics
 		attackTimer = 0;
@@ -89,22 +90,18 @@ public class SmartTower extends Tower {
 		List<Enemy> potentialTargets = new ArrayList<Enemy>();
 		
 		int pendingDamage;
-		for (GameObject go : state.getFrameObjects()) {
-			if (go instanceof Enemy) {
-				Enemy e = (Enemy) go;
+		for (Enemy e : state.getEnemies()) {
+			// For all the enemies in range, check if they are about to die
+			if (isInRange(e)) {
+				pendingDamage = 0;
 				
-				// For all the enemies in range, check if they are about to die
-				if (isInRange(e)) {
-					pendingDamage = 0;
-					
-					if (e.isTracked())
-						for (SaltCrystal sc : e.getTrackers())
-							pendingDamage += sc.getDamage();
-					
-					// If enemy is in range and is not about to die, add it to the list of potential targets
-					if (pendingDamage < e.getHealth())
-						potentialTargets.add(e);
-				}
+				if (e.isTracked())
+					for (SaltCrystal sc : e.getTrackers())
+						pendingDamage += sc.getDamage();
+				
+				// If enemy is in range and is not about to die, add it to the list of potential targets
+				if (pendingDamage < e.getHealth())
+					potentialTargets.add(e);
 			}
 		}
 		
@@ -150,7 +147,7 @@ public class SmartTower extends Tower {
 	public void update(double elapsedTime) {
 		// If in moving state, have it follow the mouse cursor and end the update
 		if (isMoving) {
-			loc = new Point(control.getX(), control.getY());
+			followMouse();
 			return;
 		}
 		
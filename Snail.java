@@ -8,9 +8,11 @@
  */
 package game;
 
+import path.PathRoute;
+
 public class Snail extends Enemy {
-	public Snail(State state, Control control) {
-		super(state, control);
+	public Snail(State state, Control control, PathRoute route) {
+		super(state, control, route);
 		
 		// Snail default field values
 		speed = 1.0/20.0;
@@ -20,10 +22,9 @@ public class Snail extends Enemy {
 		scoreValue = 100;
 		attackDamage = 5;
 		
-		// Load the image sprite and get its parameters
-		image = control.getImage("snail.png");
-		width = image.getWidth();
-		height = image.getHeight();
+		// Hitbox size, matching the snail.png sprite
+		width = 50;
+		height = 28;
 		
 		// Set draw fields
 		isVisible = true;
@@ -37,6 +38,6 @@ public class Snail extends Enemy {
 	 */
 	@Override
 	public void addCorpse() {
-		state.addGameObject(new SnailCorpse(state, control, loc.x, loc.y));
+		state.getCommands().addGameObject(new SnailCorpse(state, control, x, y));
 	}
 }
@@ -8,8 +8,6 @@
  */
 package game;
 
-import java.awt.Graphics;
-
 public class SnailCorpse extends Corpse {
 
 	public SnailCorpse(State state, Control control, int x, int y) {
@@ -17,17 +15,5 @@ public class SnailCorpse extends Corpse {
 		
 		// Snail corpse default values
 		lifeSpan = 3;
-		
-		image = control.getImage("splat.png");
 	}
-
-	/**
-	 * Draws the snail corpse sprite at the given location.
-	 */
-	@Override
-	public void draw(Graphics g) {
-		// Draws the image at the given point about its center
-		g.drawImage(image, loc.x - image.getWidth()/2, loc.y - image.getHeight()/2, null);
-	}
-
 }
@@ -0,0 +1,83 @@
+/**
+ * SpeedButton class for the Tower Defense game, a subclass of GameObject that implements the Clickable interface.
+ * A button in the menu below the tower buttons that cycles the game speed each time it is clicked.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+public class SpeedButton extends GameObject implements Clickable {
+	// Size fields
+	private int width;
+	private int height;
+	
+	// Location fields
+	private int x;
+	private int y;
+	private int xmin;
+	private int xmax;
+	private int ymin;
+	private int ymax;
+	
+	public SpeedButton(State state, Control control, int x, int y) {
+		super(state, control);
+		
+		// Initialize parameters
+		width = 120;
+		height = 60;
+		
+		this.x = x;
+		this.y = y;
+		xmin = x - width/2;
+		xmax = x + width/2;
+		ymin = y;
+		ymax = y + height;
+		
+		isVisible = true;
+		isExpired = false;
+		drawLevel = control.SUPER_UI; // Top-level UI
+	}
+	
+	@Override
+	public void update(double elapsedTime) {}
+	
+	/**
+	 * Gets the x-coordinate of the center of the button.
+	 * @return the button's center x-coordinate.
+	 */
+	public int getX() { return x; }
+	/**
+	 * Gets the y-coordinate of the top of the button.
+	 * @return the button's top y-coordinate.
+	 */
+	public int getY() { return y; }
+	/**
+	 * Gets the width of the button's clickable area.
+	 * @return the button's width.
+	 */
+	public int getWidth() { return width; }
+	/**
+	 * Gets the height of the button's clickable area.
+	 * @return the button's height.
+	 */
+	public int getHeight() { return height; }
+	
+	/**
+	 * Implements the Clickable interface consumeClick() method.
+	 * If the button is clicked, switches the game to the next speed setting.
+	 */
+	@Override
+	public boolean consumeClick() {
+		int x = control.getX();
+		int y = control.getY();
+		
+		// Check if mouse click is within the button's borders
+		if ((x > xmin && x < xmax) && (y > ymin && y < ymax)) {
+			control.cycleSpeed();
+			return true;
+		}
+		else
+			return false;
+	}
+}
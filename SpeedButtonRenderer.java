@@ -0,0 +1,60 @@
+/**
+ * SpeedButtonRenderer class, an implementation of the Renderer interface for SpeedButton objects.
+ * Draws the game speed button in the same style as the tower buttons.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+
+public class SpeedButtonRenderer implements Renderer<SpeedButton> {
+	private Control control;
+	private int border = 5; // Width of the gray border around the button
+	
+	/**
+	 * Creates a renderer for the game speed button.
+	 * 
+	 * @param control The control object holding the current game speed.
+	 */
+	public SpeedButtonRenderer(Control control) {
+		this.control = control;
+	}
+	
+	/**
+	 * Draws the button with the current game speed, matching the style of the tower buttons.
+	 */
+	@Override
+	public void draw(Graphics g, SpeedButton b) {
+		int x = b.getX();
+		int y = b.getY();
+		int outsideWidth = b.getWidth();
+		int outsideHeight = b.getHeight();
+		int insideWidth = outsideWidth - 2*border;
+		int insideHeight = outsideHeight - 2*border;
+		
+		// Draw button with gray border and white interior
+		g.setColor(Color.GRAY);
+		g.fillRoundRect(x - outsideWidth/2, y, outsideWidth, outsideHeight, 20, 20);
+		
+		g.setColor(Color.WHITE);
+		g.fillRoundRect(x - insideWidth/2, y + (outsideHeight - insideHeight)/2, insideWidth, insideHeight, 16, 16);
+		
+		// Draw the button text
+		g.setColor(Color.BLACK);
+		g.setFont(new Font("Arial", Font.BOLD, 14));
+		g.drawString("Game Speed", x - insideWidth/2 + 12, y + insideHeight/2);
+		
+		String speedText;
+		if (control.getSpeed() == control.MAX_SPEED)
+			speedText = "MAX";
+		else
+			speedText = control.getSpeed() + "x";
+		
+		g.setFont(new Font("Arial", Font.BOLD, 11));
+		g.drawString(speedText, x - insideWidth/2 + 45, y + insideHeight/2 + 20);
+	}
+}
@@ -1,7 +1,11 @@
 /**
  * State class for the tower defense game. Contains all necessary state functions and fields to operate the game.
  * Contains fields for the user's health, score, and money.
- * Contains all game objects in two lists, one for the current frame and one for the next frame.
+ * Owns the game clock that all time-dependent game objects read from.
+ * Contains all game objects in a live list, along with a pending list for objects spawned during the current frame.
+ * Also keeps per-kind registries (enemies, towers, projectiles, corpses, clickables and UI) that mirror the live list.
+ * Keeps a grid of the ground covered by placed towers, and for each tower size a mask of the spots where a tower could
+ * still be placed, both updated as towers are placed or removed.
  * Contains methods to create and update frames, as well as get-setters for the game object lists.
  * 
  * @author Tyler C. Wilcox
@@ -10,12 +14,40 @@
 package game;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import path.BitGrid;
+import path.PathCorridor;
+
 public class State {
-	// Game object lists - representing the currently displayed frame and the next frame to be generated.
-	private List<GameObject> currentFrameGameObjects;
-	private List<GameObject> nextFrameGameObjects;
+	// Game object lists - the live objects in the current frame, and the objects spawned while the frame is being generated.
+	// Both lists are reused every frame so that no new lists are allocated while the game runs.
+	private List<GameObject> gameObjects;
+	private List<GameObject> pendingGameObjects;
+	
+	// Per-kind registries - kept in step with the live list so hot loops don't have to filter every object by type.
+	private List<Enemy> enemies;
+	private List<Tower> towers;
+	private List<SaltCrystal> projectiles;
+	private List<Corpse> corpses;
+	private List<Clickable> clickables;
+	private List<GameObject> uiObjects;
+	
+	// Read-only views of the registries handed out to callers
+	private List<Enemy> enemyView;
+	private List<Tower> towerView;
+	private List<SaltCrystal> projectileView;
+	private List<Corpse> corpseView;
+	private List<Clickable> clickableView;
+	private List<GameObject> uiView;
+	
+	// Ground covered by the footprints of placed towers, one bit per pixel of the 600x600 game field
+	private BitGrid towerFootprints;
+	
+	// Placement fields - the area around the path, and a mask of the valid tower spots for each tower size used so far
+	private PathCorridor pathCorridor;
+	private List<PlacementMask> placementMasks;
 	
 	// User fields
 	private int userHealth = 0;
@@ -26,70 +58,317 @@ public class State {
 	private boolean isGameOver;
 	private boolean isGameStarted;
 	
-	// Time fields
+	// Command fields - side effects recorded during the update phase, applied once every object has been updated
+	private CommandBuffer commands;								// Used when no other buffer is active on the thread
+	private ThreadLocal<CommandBuffer> activeCommands;			// Buffer for the chunk being updated on each thread
+	
+	// Time fields - all measured in seconds of game clock time
+	private GameClock clock;
 	private double elapsedTime;
 	private double totalTime;
-	private double prevComputerTime;
+	private double prevFrameTime;
 	private double prevEnemyTime;
 	
+	// Render fields
+	private double renderAlpha;		// How far the renderer is between the previous tick and the current tick (0.0 to 1.0)
+	
 	/**
 	 * Constructor.
-	 * Creates an empty currentFrame list. The nextFrame will be generated when it's needed.
+	 * Creates a state that runs on a stepped game clock, which only advances when it is stepped.
 	 */
 	public State() {
-		currentFrameGameObjects = new ArrayList<GameObject>();
+		this(new SteppedClock());
+	}
+	
+	/**
+	 * Constructor.
+	 * Creates the empty live and pending game object lists, along with the empty per-kind registries.
+	 * 
+	 * @param clock The game clock that all game time is read from.
+	 */
+	public State(GameClock clock) {
+		this.clock = clock;
+		
+		gameObjects = new ArrayList<GameObject>();
+		pendingGameObjects = new ArrayList<GameObject>();
+		
+		enemies = new ArrayList<Enemy>();
+		towers = new ArrayList<Tower>();
+		projectiles = new ArrayList<SaltCrystal>();
+		corpses = new ArrayList<Corpse>();
+		clickables = new ArrayList<Clickable>();
+		uiObjects = new ArrayList<GameObject>();
+		
+		enemyView = Collections.unmodifiableList(enemies);
+		towerView = Collections.unmodifiableList(towers);
+		projectileView = Collections.unmodifiableList(projectiles);
+		corpseView = Collections.unmodifiableList(corpses);
+		clickableView = Collections.unmodifiableList(clickables);
+		uiView = Collections.unmodifiableList(uiObjects);
+		
+		towerFootprints = new BitGrid(600, 600);
+		placementMasks = new ArrayList<PlacementMask>();
+		
+		commands = new CommandBuffer();
+		activeCommands = new ThreadLocal<CommandBuffer>();
 		
 		isGameOver = false; // Game is running
 		isGameStarted = false; // Give user time to set up
 		
 		// Set timing values
-		prevComputerTime = System.currentTimeMillis()/1000.0;
-		resetPrevEnemyTime();
+		prevFrameTime = clock.getTime();
 		totalTime = 0;
 		elapsedTime = 0;
+		resetPrevEnemyTime();
+		renderAlpha = 1.0;
 	}
 	
 	/**
-	 * Begins creating the next frame to draw by copying the current object list into the next object list.
+	 * Begins creating the next frame by reading how much game clock time has passed since the last frame.
+	 * Objects added with addGameObject() are held in the pending list until the frame is finished.
 	 */
 	public void startFrame() {
 		// Calculate frame timing
-		elapsedTime = System.currentTimeMillis()/1000.0 - prevComputerTime;
-		prevComputerTime = System.currentTimeMillis()/1000.0;
+		double currentTime = clock.getTime();
+		elapsedTime = currentTime - prevFrameTime;
+		prevFrameTime = currentTime;
 
 		totalTime += elapsedTime;
-		
-		nextFrameGameObjects = new ArrayList<GameObject>();
-		nextFrameGameObjects.addAll(currentFrameGameObjects);
 	}
 	
 	/**
-	 * Finishes creating a new frame by checking if any objects in the current frame have become expired.
-	 * All non-expired objects are stored in the list of next-frame objects, which is then set to be the current frame.
+	 * Finishes creating a new frame by removing any objects in the current frame that have become expired.
+	 * Expired objects are dropped in a single pass that shifts the surviving objects down in place, keeping their order.
+	 * Objects spawned during the frame are then moved from the pending list onto the end of the live list.
+	 * The per-kind registries are compacted and extended in the same way, and the enemies are then put back in order of
+	 * how far along the path they are.
 	 */
 	public void finishFrame() {
-		for (GameObject go : currentFrameGameObjects)
-			if (go.isExpired())
-				nextFrameGameObjects.remove(go);
-		currentFrameGameObjects = nextFrameGameObjects;
-		nextFrameGameObjects = null;
+		// Free the ground under any placed tower that is being removed
+		for (int i = 0; i < towers.size(); i++) {
+			Tower t = towers.get(i);
+			if (t.isExpired() && !t.isMoving())
+				vacate(t);
+		}
+		
+		// Compact the live list and the registries, keeping every non-expired object in its current order
+		removeExpired(gameObjects);
+		removeExpired(enemies);
+		removeExpired(towers);
+		removeExpired(projectiles);
+		removeExpired(corpses);
+		removeExpired(clickables);
+		removeExpired(uiObjects);
+		
+		// Move the objects spawned this frame into the live list
+		for (int i = 0; i < pendingGameObjects.size(); i++)
+			register(pendingGameObjects.get(i));
+		pendingGameObjects.clear();
+		
+		sortEnemies();
+	}
+	
+	/**
+	 * Sorts the enemies from least to most far along the path with an insertion sort.
+	 * Enemies only overtake each other a few at a time, so the list is nearly sorted already and this is close to one pass.
+	 */
+	private void sortEnemies() {
+		for (int i = 1; i < enemies.size(); i++) {
+			Enemy e = enemies.get(i);
+			double percentage = e.getPercentage();
+			
+			// Shift further along enemies up until e's spot is found
+			int j = i - 1;
+			while (j >= 0 && enemies.get(j).getPercentage() > percentage) {
+				enemies.set(j + 1, enemies.get(j));
+				j--;
+			}
+			enemies.set(j + 1, e);
+		}
+	}
+	
+	/**
+	 * Removes every expired object from the given list in one pass, shifting the survivors down in place.
+	 * Every item in the list must be a GameObject.
+	 * 
+	 * @param list The list to be compacted.
+	 */
+	private <T> void removeExpired(List<T> list) {
+		int size = list.size();
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			T item = list.get(i);
+			if (!((GameObject) item).isExpired())
+				list.set(kept++, item);
+		}
+		list.subList(kept, size).clear();
+	}
+	
+	/**
+	 * Adds a newly spawned object to the live list and to every registry that matches its type.
+	 * 
+	 * @param go The GameObject to be registered.
+	 */
+	private void register(GameObject go) {
+		gameObjects.add(go);
+		
+		if (go instanceof Enemy)
+			enemies.add((Enemy) go);
+		else if (go instanceof Tower)
+			towers.add((Tower) go);
+		else if (go instanceof SaltCrystal)
+			projectiles.add((SaltCrystal) go);
+		else if (go instanceof Corpse)
+			corpses.add((Corpse) go);
+		else
+			uiObjects.add(go);
+		
+		if (go instanceof Clickable)
+			clickables.add((Clickable) go);
 	}
 	
 	/**
 	 * Method to add a GameObject to the next frame.
+	 * The object is held in the pending list and joins the live list when the current frame is finished.
 	 * 
 	 * @param go The GameObject to be added.
 	 */
 	public void addGameObject(GameObject go) {
-		nextFrameGameObjects.add(go);
+		pendingGameObjects.add(go);
 	}
 	
 	/**
 	 * Accessor to return the full list of current game objects.
 	 * 
-	 * @return currentFrameGameObjects, the list of game objects in the current frame.
+	 * @return gameObjects, the list of game objects in the current frame.
+	 */
+	public List<GameObject> getFrameObjects() { return gameObjects; }
+	
+	/*
+	 * Registry accessors - read-only views that always match the live list
+	 */
+	
+	/**
+	 * Gets every enemy in the current frame, in order from least to most far along the path.
+	 * @return a read-only list of the current enemies.
+	 */
+	public List<Enemy> getEnemies() { return enemyView; }
+	/**
+	 * Gets every tower in the current frame, including towers that are still being placed.
+	 * @return a read-only list of the current towers.
+	 */
+	public List<Tower> getTowers() { return towerView; }
+	/**
+	 * Gets every salt crystal projectile in the current frame.
+	 * @return a read-only list of the current projectiles.
 	 */
-	public List<GameObject> getFrameObjects() { return currentFrameGameObjects; }
+	public List<SaltCrystal> getProjectiles() { return projectileView; }
+	/**
+	 * Gets every corpse in the current frame.
+	 * @return a read-only list of the current corpses.
+	 */
+	public List<Corpse> getCorpses() { return corpseView; }
+	/**
+	 * Gets every clickable object in the current frame.
+	 * @return a read-only list of the current clickable objects.
+	 */
+	public List<Clickable> getClickables() { return clickableView; }
+	/**
+	 * Gets every UI object (background, menu, buttons and game over screen) in the current frame.
+	 * This is every object that isn't an enemy, tower, projectile or corpse.
+	 * @return a read-only list of the current UI objects.
+	 */
+	public List<GameObject> getUIObjects() { return uiView; }
+	
+	/*
+	 * Tower footprint methods
+	 */
+	
+	/**
+	 * Marks the ground under a tower's footprint as covered. Called once the tower has been placed.
+	 * @param t The tower that was placed.
+	 */
+	public void occupy(Tower t) {
+		towerFootprints.fill(t.getFootprintLeft(), t.getFootprintTop(), t.getFootprintRight(), t.getFootprintBottom(), true);
+		
+		for (int i = 0; i < placementMasks.size(); i++)
+			placementMasks.get(i).towerPlaced(t);
+	}
+	/**
+	 * Clears the ground under a tower's footprint. Placed towers never overlap, so no other tower's ground is cleared.
+	 * @param t The placed tower that is being removed.
+	 */
+	public void vacate(Tower t) {
+		towerFootprints.fill(t.getFootprintLeft(), t.getFootprintTop(), t.getFootprintRight(), t.getFootprintBottom(), false);
+		
+		for (int i = 0; i < placementMasks.size(); i++)
+			placementMasks.get(i).towerRemoved(t);
+	}
+	/**
+	 * Checks if any of the given rectangle is covered by a placed tower. Only reads the rows and words under the rectangle,
+	 * so it takes the same time however many towers have been placed.
+	 * @param left The x-coordinate of the rectangle's left column.
+	 * @param top The y-coordinate of the rectangle's top row.
+	 * @param right The x-coordinate of the rectangle's right column, included in the rectangle.
+	 * @param bottom The y-coordinate of the rectangle's bottom row, included in the rectangle.
+	 * @return true if the rectangle overlaps a placed tower's footprint.
+	 */
+	public boolean isOccupied(int left, int top, int right, int bottom) {
+		return towerFootprints.intersects(left, top, right, bottom);
+	}
+	
+	/**
+	 * Sets the area around the path that towers can't be built on. Must be set before any placement mask is needed.
+	 * @param pathCorridor The path corridor.
+	 */
+	public void setPathCorridor(PathCorridor pathCorridor) {
+		this.pathCorridor = pathCorridor;
+		placementMasks.clear();
+	}
+	/**
+	 * Gets the mask of spots where a tower of the given size can be placed, making it the first time that size is used.
+	 * @param width The width of the tower.
+	 * @param height The height of the tower.
+	 * @return the placement mask for towers of that size.
+	 */
+	public PlacementMask getPlacementMask(int width, int height) {
+		for (int i = 0; i < placementMasks.size(); i++) {
+			PlacementMask mask = placementMasks.get(i);
+			if (mask.getTowerWidth() == width && mask.getTowerHeight() == height)
+				return mask;
+		}
+		
+		PlacementMask mask = new PlacementMask(this, pathCorridor, width, height);
+		placementMasks.add(mask);
+		return mask;
+	}
+	
+	/*
+	 * Command buffer Get/Set
+	 */
+	
+	/**
+	 * Gets the command buffer that game objects should record their side effects into during update().
+	 * This is the buffer for the chunk being updated on the current thread, or the state's own buffer if there is none.
+	 * @return the command buffer for the current thread.
+	 */
+	public CommandBuffer getCommands() {
+		CommandBuffer active = activeCommands.get();
+		if (active != null)
+			return active;
+		return commands;
+	}
+	
+	/**
+	 * Sets the command buffer used by getCommands() on the current thread. Set to null to go back to the state's own buffer.
+	 * @param buffer the command buffer for the current thread.
+	 */
+	void setActiveCommands(CommandBuffer buffer) {
+		if (buffer == null)
+			activeCommands.remove();
+		else
+			activeCommands.set(buffer);
+	}
 	
 	/*
 	 * Game Over Get/Set
@@ -121,13 +400,18 @@ public class State {
 	 * Timer GET/SET
 	 */
 	
+	/**
+	 * Gets the game clock that all game time is read from.
+	 * @return the game clock.
+	 */
+	public GameClock getClock() { return clock; }
 	/**
 	 * Gets the elapsed time since the last frame.
 	 * @return elapsed time since the last frame.
 	 */
 	public double getElapsedTime() { return elapsedTime; }
 	/**
-	 * Gets the total time since the game launched.
+	 * Gets the total simulated time since the game launched.
 	 * @return total time since the game launched.
 	 */
 	public double getTotalTime() { return totalTime; }
@@ -142,16 +426,32 @@ public class State {
 	 * @return Time since last enemy (in seconds)
 	 */
 	public double getTimeSinceLastEnemy() {
-		return System.currentTimeMillis()/1000.0 - prevEnemyTime;
+		return clock.getTime() - prevEnemyTime;
 	}
 	
 	/**
 	 * When a new enemy is loaded, call this to reset the timer on when the next enemy should be loaded. (Measured in seconds.)
 	 */
 	public void resetPrevEnemyTime() {
-		prevEnemyTime = System.currentTimeMillis()/1000.0;
+		prevEnemyTime = clock.getTime();
 	}
 	
+	/*
+	 * Render GET/SET
+	 */
+	
+	/**
+	 * Gets how far the current render falls between the previous tick and the current tick.
+	 * Moving objects draw themselves at prev + (current - prev)*alpha to stay smooth between ticks.
+	 * @return the interpolation factor, between 0.0 and 1.0.
+	 */
+	public double getRenderAlpha() { return renderAlpha; }
+	/**
+	 * Sets how far the next render falls between the previous tick and the current tick.
+	 * @param alpha the interpolation factor, between 0.0 and 1.0.
+	 */
+	public void setRenderAlpha(double alpha) { renderAlpha = alpha; }
+	
 	/*
 	 * User get-setters
 	 */
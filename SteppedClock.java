@@ -0,0 +1,37 @@
+/**
+ * SteppedClock class, an implementation of the GameClock interface.
+ * Only moves forward when it is stepped, which allows the game to be simulated faster than real time
+ * and replayed exactly.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+public class SteppedClock implements GameClock {
+	private double time;
+	
+	/**
+	 * Creates a new stepped clock starting at time zero.
+	 */
+	public SteppedClock() {
+		time = 0;
+	}
+	
+	/**
+	 * Advances the clock by the given amount of time.
+	 * @param seconds The time to advance by, in seconds.
+	 */
+	public void step(double seconds) {
+		time += seconds;
+	}
+	
+	/**
+	 * Gets the total time that the clock has been stepped by.
+	 * @return seconds stepped since the clock was created.
+	 */
+	@Override
+	public double getTime() {
+		return time;
+	}
+}
@@ -2,23 +2,19 @@
  * Abstract class representing a tower object that extends the GameObject class.
  * Contains fields and accessors to get the unit's location (center of mass), height, and width.
  * Also contains a method that checks if a given coordinate is within the unit's hitbox, based on its location and size.
+ * Placed towers mark their footprint in the state, and a tower can't be placed where its footprint would overlap another's.
  * 
  * @author Tyler C. Wilcox
  * @version 11/28/2022
  */
 package game;
 
-import java.awt.Color;
-import java.awt.Graphics;
-import java.awt.Point;
-
-import path.Path;
-
 public abstract class Tower extends GameObject implements Clickable {
 	protected boolean isMoving; // Field to represent if item is placed or is being placed
 	
-	// Drawing fields
-	protected Point loc;
+	// Location and size fields
+	protected int x;
+	protected int y;
 	protected int width;
 	protected int height;
 	
@@ -37,7 +33,8 @@ public abstract class Tower extends GameObject implements Clickable {
 		super(state, control);
 		
 		isMoving = true;
-		loc = new Point(control.getX(), control.getY());
+		x = control.getX();
+		y = control.getY();
 		
 		drawLevel = control.SUPER_UI;
 		
@@ -68,8 +65,8 @@ public abstract class Tower extends GameObject implements Clickable {
 	 * @return true if the enemy is within the tower's range, false otherwise.
 	 */
 	public boolean isInRange(Enemy e) {
-		int distx = e.getX() - this.loc.x;
-		int disty = e.getY() - this.loc.y;
+		int distx = e.getX() - this.x;
+		int disty = e.getY() - this.y;
 		
 		// If the linear distance is greater than the attack range, the target is out of range
 		if (distx*distx + disty*disty > attackRange*attackRange)
@@ -86,6 +83,19 @@ public abstract class Tower extends GameObject implements Clickable {
 	 * @return Boolean flag for whether tower is moving or not.
 	 */
 	public boolean isMoving() { return isMoving; }
+	/**
+	 * Moves a tower that is being placed to the mouse's location. Called every update, and by Control when the mouse
+	 * moves while the game loop is idle.
+	 */
+	public void followMouse() {
+		x = control.getX();
+		y = control.getY();
+	}
+	/**
+	 * Returns the tower's attack range.
+	 * @return attack range, in pixels.
+	 */
+	public int getAttackRange() { return attackRange; }
 	/**
 	 * Returns the cost of a salt-launcher tower.
 	 * @return tower's cost.
@@ -109,6 +119,7 @@ public abstract class Tower extends GameObject implements Clickable {
 		if (isMoving && isWithinGameField() && isValidLocation()) {
 			isMoving = false;
 			drawLevel = control.SKY;
+			state.occupy(this);
 			return true;
 		}
 		// If the tower is moving and the placement location is outside the game field, delete the tower and refund its cost to the user
@@ -123,175 +134,48 @@ public abstract class Tower extends GameObject implements Clickable {
 	}
 	
 	/**
-	 * Checks if the placement location for the tower is within the field of play.
-	 * @return true if tower hitbox is completely within the field of play, false otherwise.
-	 */
-	private boolean isWithinGameField() {	
-		if ((loc.x < width/2 || loc.x > 600 - width/2) || (loc.y < height || loc.y > 600))
-			return false;
-		else
-			return true;
-	}
-	
-	/**
-	 * Checks if the tower is in a valid location, meaning that it isn't covering another tower and is not blocking the path.
-	 * @return true if the location is valid, false otherwise.
-	 */
-	private boolean isValidLocation() {
-		// Check if the tower is being placed within the hitbox of another tower
-		for (GameObject go : state.getFrameObjects()) {
-			if (go instanceof Tower) {
-				Tower t = (Tower) go;
-
-				// Skip the tower if it's checking against itself
-				if (t == this) continue;
-				
-				// Check x coordinates
-				if (this.loc.x <= t.getX() + t.getWidth()/2 && this.loc.x >= t.getX() - t.getWidth()/2) {
-					// Check y coordinates
-					if (this.loc.y <= t.getY() + t.getHeight() - 10 && this.loc.y >= t.getY() - t.getHeight() + 10)
-						return false;
-				}
-			}
-		}
-
-		// Check if any point of the hitbox is within the given radius of any point on the path
-		
-		Path path = control.getPath();
-		int radius = 22;
-		
-		// Get coordinates for the corners of the hitbox
-		Point topLeft = new Point(loc.x - width/4, loc.y - height + 16);
-		Point topRight = new Point(loc.x + width/4, loc.y - height + 16);
-		Point bottomLeft = new Point(loc.x - width/4, loc.y);
-		Point bottomRight = new Point(loc.x + width/4, loc.y);
-		
-		// For each point, check if the collision occurs with the each boundary of the hitbox in turn, returning false if it does
-		for (int i = 0; i < path.getPointCount(); i++) {
-			// Top line
-			if (checkCollision(topLeft, topRight, path.getX(i), path.getY(i), radius)) {
-				return false;
-			}
-			// Left line
-			if (checkCollision(topLeft, bottomLeft, path.getX(i), path.getY(i), radius)) {
-				return false;
-			}
-			// Bottom line
-			if (checkCollision(bottomLeft, bottomRight, path.getX(i), path.getY(i), radius)) {
-				return false;
-			}
-			// Right line
-			if (checkCollision(bottomRight, topRight, path.getX(i), path.getY(i), radius)) {
-				return false;
-			}
-		}
-		// If we've reached this point, all checks have been passed
-		return true;
-	}
-	
-	/**
-	 * Checks if the line between points 1 and 2 collides with the circle defined by the points (circx, circy) with the given radius.
-	 * Begins by checking if the ends of the line (point1 and point2) collide with the given circle, and if not checks if any other point on the line
-	 * collides with the circle.
+	 * Places a tower that is still awaiting placement at the given location, as if the user had clicked there.
+	 * Used to place towers without a mouse, e.g. from a scripted headless game.
+	 * If the location is invalid the tower stays unplaced.
 	 * 
-	 * @param point1 The first endpoint of the line being checked.
-	 * @param point2 The second endpoint of the line being checked.
-	 * @param circx The x-coordinate of the center of the circle being checked.
-	 * @param circy The y-coordinate of the center of the circle being checked.
-	 * @param radius The radius of the circle being checked.
-	 * 
-	 * @return true if the line collides with the circle, false otherwise.
+	 * @param x The x coordinate to place the tower's center at.
+	 * @param y The y coordinate to place the tower's center at.
+	 * @return true if the tower was placed, false otherwise.
 	 */
-	private boolean checkCollision(Point point1, Point point2, int circx, int circy, int radius) {
-		// Check if the ends of the line collide with the circle - returning true if it does
-		if (pointCollision(point1.x, point1.y, circx, circy, radius) || pointCollision(point2.x, point2.y, circx, circy, radius))
-			return true;
+	public boolean placeAt(int x, int y) {
+		if (!isMoving)
+			return false;
 		
-		// Check if the line collides with the circle - returning true if it does
-		if (lineCollision(point1, point2, circx, circy, radius))
+		this.x = x;
+		this.y = y;
+		if (isWithinGameField() && isValidLocation()) {
+			isMoving = false;
+			drawLevel = control.SKY;
+			state.occupy(this);
 			return true;
-		
-		// If we reach this point, all collision checks have been avoided
+		}
 		return false;
 	}
 	
 	/**
-	 * Checks if a point at the given x and y location collide with a circle of the given radius at the given x and y location.
-	 * 
-	 * @param pointx x-coordinate of the point in question.
-	 * @param pointy y-coordinate of the point in question.
-	 * @param circx x-coordinate of the circle's center.
-	 * @param circy y-coordinate of the cirlce's center.
-	 * @param radius Radius of the circle.
-	 * 
-	 * @return true if the point is within the circle's area, false otherwise.
+	 * Checks if the placement location for the tower is within the field of play.
+	 * @return true if tower hitbox is completely within the field of play, false otherwise.
 	 */
-	private boolean pointCollision(int pointx, int pointy, int circx, int circy, int radius) {
-		// Find the distance between the point and the circle using the Pythagorean theorem
-		int distX = pointx - circx;
-		int distY = pointy - circy;
-		
-		// If dx^2 + dy^2 <= r^2, point is within the radius
-		if (distX*distX + distY*distY <= radius*radius)
+	private boolean isWithinGameField() {	
+		if ((x < width/2 || x > 600 - width/2) || (y < height || y > 600))
+			return false;
+		else
 			return true;
-		
-		return false;
 	}
 	
 	/**
-	 * Checks if a line between points point1 and point 2 collides with the circle of the given radius at the given x and y location.
-	 * 
-	 * @param point1 First endpoint of the line to be checked.
-	 * @param point2 Second endpoint of the line to be checked.
-	 * @param circx x-coordinate of the circle in question.
-	 * @param circy y-coordinate of the circle in question.
-	 * @param radius Radius of the circle in question.
-	 * 
-	 * @return true if the line collides with the circle, false otherwise.
+	 * Checks if the tower is in a valid location, meaning that it isn't covering another tower and is not blocking the path.
+	 * Looks the spot up in the state's placement mask for this tower's size, so it takes the same time wherever the path
+	 * runs and however many towers have been placed.
+	 * @return true if the location is valid, false otherwise.
 	 */
-	private boolean lineCollision(Point point1, Point point2, int circx, int circy, int radius) {
-		// Get the min and max x and y for the line between points 1 and 2
-		int minX, maxX;
-		if (point1.x < point2.x) {
-			minX = point1.x;
-			maxX = point2.x;
-		}
-		else {
-			minX = point2.x;
-			maxX = point1.x;
-		}
-		
-		// Get the length of the line between points 1 and 2
-		int dx = point2.x - point1.x;
-		int dy = point2.y - point1.y;
-		
-		int len_sq = dx*dx + dy*dy;
-		
-		// Find the dot product of the line-circle displacement vector and the perpendicular direction of the line
-		float dot = (circx - point1.x)*(point2.x - point1.x);
-		dot += (circy - point1.y)*(point2.y - point1.y);
-		dot = dot/len_sq;
-		
-		// Find the closest point on the line to the circle
-		int closestX = point1.x + (int) (dot*(point2.x - point1.x));
-		int closestY = point1.y + (int) (dot*(point2.y - point1.y));
-		
-		// Check if the closest point is between the two endpoints - If not the line does not collide with the circle
-		// Since the closest point is farther away than the endpoints, which were established as being outside of the collision.
-		boolean withinX;
-		withinX = closestX > minX && closestX < maxX;
-		if (!withinX)
-			return false;
-		
-		// Finally, check distance of closest point. If it's within the radius of the circle, the line collides with the circle
-		dx = circx - closestX;
-		dy = circy - closestY;
-		len_sq = dx*dx + dy*dy;
-		if (len_sq <= radius*radius)
-			return true;
-		
-		// If we reach this point, collision has been avoided
-		return false;
+	private boolean isValidLocation() {
+		return state.getPlacementMask(width, height).isValid(x, y);
 	}
 	
 	// Purchasing Methods
@@ -325,13 +209,39 @@ public abstract class Tower extends GameObject implements Clickable {
 	 * Get the x coordinate of the tower's center.
 	 * @return x coordinate of tower's center.
 	 */
-	public int getX() { return loc.x; }
+	public int getX() { return x; }
 	
 	/**
 	 * Get the y coordinate of the tower's center.
 	 * @return y coordinate of the tower's center.
 	 */
-	public int getY() { return loc.y; }
+	public int getY() { return y; }
+	
+	/**
+	 * Get the x coordinate of the left edge of the tower's footprint, the ground it covers once placed.
+	 * For the game's 52x60 towers, two footprints overlap exactly when their centers are within width/2 across and
+	 * height - 10 down of each other, the same spacing the old tower-by-tower check enforced.
+	 * @return x coordinate of the footprint's left column.
+	 */
+	public int getFootprintLeft() { return x - width/4; }
+	
+	/**
+	 * Get the x coordinate of the right edge of the tower's footprint.
+	 * @return x coordinate of the footprint's right column.
+	 */
+	public int getFootprintRight() { return x + width/4; }
+	
+	/**
+	 * Get the y coordinate of the top edge of the tower's footprint.
+	 * @return y coordinate of the footprint's top row.
+	 */
+	public int getFootprintTop() { return y - height/2 + 5; }
+	
+	/**
+	 * Get the y coordinate of the bottom edge of the tower's footprint.
+	 * @return y coordinate of the footprint's bottom row.
+	 */
+	public int getFootprintBottom() { return y + height/2 - 5; }
 	
 	/**
 	 * Get the width of the tower.
@@ -351,24 +261,9 @@ public abstract class Tower extends GameObject implements Clickable {
 	 * @return the distance to the enemy.
 	 */
 	protected int distTo(Enemy e) {
-		int distx = e.getX() - this.loc.x;
-		int disty = e.getY() - this.loc.y;
+		int distx = e.getX() - this.x;
+		int disty = e.getY() - this.y;
 		
 		return (int) Math.pow((double) (distx*distx + disty*disty), 0.5);
 	}
-	
-	/**
-	 * Draws the tower's sprite at the given location, adjusted so the center of the base is at the user's mouse point.
-	 */
-	@Override
-	public void draw(Graphics g) {	
-		g.drawImage(image, loc.x - width/2, loc.y - height + 8, null);
-		
-		// Draw range arcs - red if dumb tower, blue if smart tower
-		if (this instanceof DumbTower)
-			g.setColor(Color.RED);
-		else if (this instanceof SmartTower)
-			g.setColor(Color.BLUE);
-		g.drawOval(loc.x - attackRange, loc.y - attackRange, 2*attackRange, 2*attackRange);
-	}
 }
@@ -0,0 +1,91 @@
+/**
+ * TowerRenderer class, an implementation of the Renderer interface for Tower objects.
+ * Draws the tower's sprite along with its range arc. While a tower is being placed, also tints the spots it can't be
+ * placed on and grays out its range arc if it is over one.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+public class TowerRenderer implements Renderer<Tower> {
+	private static final int INVALID_COLOR = 0x50FF0000;	// Translucent red, drawn over spots a tower can't go
+	
+	private State state;
+	private BufferedImage image;
+	private Color rangeColor;
+	
+	// Placement overlay fields
+	private BufferedImage overlay;		// Null until a moving tower is first drawn
+	private PlacementMask overlayMask;	// The mask the overlay was drawn from
+	private int overlayVersion;			// The version of that mask the overlay was drawn from
+	
+	/**
+	 * Creates a renderer that draws towers with the given sprite and range arc color.
+	 * 
+	 * @param state The state object, used to find where a moving tower can be placed.
+	 * @param image The tower's sprite.
+	 * @param rangeColor The color of the tower's range arc.
+	 */
+	public TowerRenderer(State state, BufferedImage image, Color rangeColor) {
+		this.state = state;
+		this.image = image;
+		this.rangeColor = rangeColor;
+	}
+	
+	/**
+	 * Draws the tower's sprite at the given location, adjusted so the center of the base is at the tower's location.
+	 * A moving tower is drawn over its placement overlay, with a gray range arc if it can't be placed where it is.
+	 */
+	@Override
+	public void draw(Graphics g, Tower t) {
+		int x = t.getX();
+		int y = t.getY();
+		int attackRange = t.getAttackRange();
+		boolean placeable = true;
+		
+		if (t.isMoving()) {
+			PlacementMask mask = state.getPlacementMask(t.getWidth(), t.getHeight());
+			g.drawImage(getOverlay(mask), 0, 0, null);
+			placeable = mask.isValid(x, y);
+		}
+		
+		g.drawImage(image, x - t.getWidth()/2, y - t.getHeight() + 8, null);
+		
+		// Draw range arc
+		g.setColor(placeable ? rangeColor : Color.GRAY);
+		g.drawOval(x - attackRange, y - attackRange, 2*attackRange, 2*attackRange);
+	}
+	
+	/**
+	 * Gets an image the size of the mask with every spot a tower can't be centered on tinted red, drawing it again from
+	 * the mask only if the mask has changed since it was last drawn.
+	 * 
+	 * @param mask The placement mask for the moving tower's size.
+	 * @return the overlay image, to be drawn at the top left of the field.
+	 */
+	private BufferedImage getOverlay(PlacementMask mask) {
+		if (overlay != null && overlayMask == mask && overlayVersion == mask.getVersion())
+			return overlay;
+		
+		int width = mask.getWidth();
+		int height = mask.getHeight();
+		if (overlay == null || overlay.getWidth() != width || overlay.getHeight() != height)
+			overlay = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		
+		int[] row = new int[width];
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++)
+				row[x] = mask.isValid(x, y) ? 0 : INVALID_COLOR;
+			overlay.setRGB(0, y, width, 1, row, 0, width);
+		}
+		
+		overlayMask = mask;
+		overlayVersion = mask.getVersion();
+		return overlay;
+	}
+}
@@ -8,8 +8,6 @@
  */
 package game;
 
-import java.awt.Graphics;
-
 public class VanCorpse extends Corpse {
 	
 	public VanCorpse(State state, Control control, int x, int y) {
@@ -17,17 +15,5 @@ public class VanCorpse extends Corpse {
 		
 		// Van corpse default values
 		lifeSpan = 5;
-		
-		image = control.getImage("crash.png");
 	}
-
-	/**
-	 * Draws the van's corpse at the location the van died at.
-	 */
-	@Override
-	public void draw(Graphics g) {		
-		// Draws the image at the given point about its center
-		g.drawImage(image, loc.x - image.getWidth()/2, loc.y - image.getHeight()/2, null);
-	}
-
 }
@@ -2,17 +2,25 @@
  * View class for the Tower Defense game.
  * Extends JPanel and operates the game's visuals.
  * Creates a JPanel and menu and then constantly draws visible game objects to the frame.
+ * Holds the cache of loaded images and the renderer used to draw each kind of game object.
  * 
  * @author Tyler C. Wilcox
  * @version 19 November 2022
  */
 package game;
 
+import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
 
+import javax.imageio.ImageIO;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 
@@ -26,6 +34,10 @@ public class View extends JPanel{
 	private int gameHeight = 600;
 	private int uiWidth = 200;
 	
+	// Drawing fields
+	private Map<String,BufferedImage> imageCache;
+	private Map<Class<?>,Renderer<?>> renderers;
+	
 	/**
 	 * View object constructor. Builds the JFrame and panel to display the game as it runs.
 	 * 
@@ -36,6 +48,10 @@ public class View extends JPanel{
 		this.state = state;
 		this.control = control;
 		
+		imageCache = new TreeMap<String,BufferedImage>();
+		renderers = new HashMap<Class<?>,Renderer<?>>();
+		addRenderers();
+		
 		JFrame f = new JFrame("Tower Defense");
 		f.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 		
@@ -48,6 +64,27 @@ public class View extends JPanel{
 		f.setVisible(true);
 	}
 	
+	/**
+	 * Registers the renderer for every kind of game object that can be drawn.
+	 */
+	private void addRenderers() {
+		renderers.put(Background.class, new ScreenRenderer(getImage("background.jpg")));
+		renderers.put(GameOver.class, new ScreenRenderer(getImage("game_over.png")));
+		renderers.put(Menu.class, new MenuRenderer(state, control));
+		renderers.put(MenuButton.class, new MenuButtonRenderer());
+		renderers.put(SpeedButton.class, new SpeedButtonRenderer(control));
+		
+		renderers.put(Snail.class, new EnemyRenderer(state, getImage("snail.png")));
+		renderers.put(SCargo.class, new EnemyRenderer(state, getImage("s-cargo.png")));
+		renderers.put(SnailCorpse.class, new CorpseRenderer(getImage("splat.png")));
+		renderers.put(VanCorpse.class, new CorpseRenderer(getImage("crash.png")));
+		
+		// Range arcs - red if dumb tower, blue if smart tower
+		renderers.put(DumbTower.class, new TowerRenderer(state, getImage("dumb_tower.png"), Color.RED));
+		renderers.put(SmartTower.class, new TowerRenderer(state, getImage("dumb_tower.png"), Color.BLUE));
+		renderers.put(SaltCrystal.class, new SaltCrystalRenderer(state, getImage("salt_crystals.png")));
+	}
+	
 	/**
 	 * Paints the current list of game objects to the game field if they are alive and visible.
 	 * First sorts the array according to draw-level to ensure everything is drawn at the appropriate time.
@@ -59,6 +96,55 @@ public class View extends JPanel{
 		// Draw the visible game objects
         for (GameObject go : state.getFrameObjects())
             if (go.isVisible() && !go.isExpired())
-                go.draw(g);
+                drawObject(g, go);
 	}
+	
+	/**
+	 * Draws a single game object with the renderer registered for its class.
+	 * Objects with no registered renderer are not drawn.
+	 * 
+	 * @param g The Graphics object used to draw the object.
+	 * @param go The game object to be drawn.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends GameObject> void drawObject(Graphics g, T go) {
+		// Each renderer is registered against the class it draws, so the cast always matches
+		Renderer<T> renderer = (Renderer<T>) renderers.get(go.getClass());
+		if (renderer != null)
+			renderer.draw(g, go);
+	}
+	
+	/**
+	 * Returns the image file corresponding to the given filename.
+	 * Checks if the image is in the image cache, and if not loads and stores it within the cache.
+	 * 
+	 * @param filename The filename of the image to be loaded
+	 * @return The image to be returned
+	 */
+    public BufferedImage getImage (String filename)
+    {
+    	// Check if image is cached. If so, return it
+    	if (imageCache.containsKey(filename))
+    		return imageCache.get(filename);
+    	
+    	// If image is not cached, load it and save it to the cache.
+        try
+        {        	
+        	// Loads the image from the resource folder in this object's directory
+        	ClassLoader myLoader = this.getClass().getClassLoader();
+        	InputStream imageStream = myLoader.getResourceAsStream("resources/" + filename);
+        	BufferedImage image = ImageIO.read(imageStream);
+        	
+        	// Store image in cache
+        	imageCache.put(filename, image);
+        	
+        	return image;
+        }
+        catch (IOException e)
+        {
+        	System.out.println("Failed to load resources/" + filename);
+        	System.exit(0); // If we fail to open the desired image, we crash the application
+        	return null; 	// Never happens
+        }
+    }
 }
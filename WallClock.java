@@ -0,0 +1,28 @@
+/**
+ * WallClock class, an implementation of the GameClock interface.
+ * Follows real time as measured by the system, starting from zero when the clock is created.
+ * 
+ * @author Tyler C. Wilcox
+ * @version 17 October 2026
+ */
+package game;
+
+public class WallClock implements GameClock {
+	private long startTime; // System.nanoTime() when the clock was created
+	
+	/**
+	 * Creates a new wall clock that reads zero at the moment it is created.
+	 */
+	public WallClock() {
+		startTime = System.nanoTime();
+	}
+	
+	/**
+	 * Gets the real time that has passed since the clock was created.
+	 * @return seconds since the clock was created.
+	 */
+	@Override
+	public double getTime() {
+		return (System.nanoTime() - startTime)/1e9;
+	}
+}